@@ -0,0 +1,64 @@
+package com.hows.alphahows.auth.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt cost별 로그인 검증 처리량 (검증 풀을 거치는 동시 로그인, 초당 건수)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 3)
+@Threads(Threads.MAX)
+@Fork(1)
+public class PasswordVerifierBenchmark {
+
+    private static final String PASSWORD = "benchmark-password";
+
+    @Param({"4", "8", "10", "12"})
+    private int cost;
+
+    private PasswordVerifier verifier;
+    private String stored;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        // 동시 클라이언트 수(코어 수)보다 큰 대기열이라 측정 중 거절은 없음
+        verifier = new PasswordVerifier(encoder, 0, 1024, Duration.ofSeconds(30));
+        stored = encoder.encode(PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        verifier.shutdown();
+    }
+
+    @Benchmark
+    public PasswordVerifier.Result verifyExistingUser() {
+        return verifier.verify(PASSWORD, stored);
+    }
+
+    // 존재하지 않는 계정: 더미 해시 비교로 같은 비용을 치르는지 확인
+    @Benchmark
+    public PasswordVerifier.Result verifyUnknownUser() {
+        return verifier.verify(PASSWORD, null);
+    }
+}
@@ -0,0 +1,53 @@
+package com.hows.alphahows.auth.util;
+
+import com.hows.alphahows.auth.principal.AuthUser;
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+/**
+ * 요청마다 호출되는 인증 주체 → 이메일 해석 비용 (HTTP 인증 / STOMP Principal)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthPrincipalUtilsBenchmark {
+
+    private Authentication authentication;
+    private Principal stompPrincipal;
+
+    @Setup
+    public void setUp() {
+        authentication = UsernamePasswordAuthenticationToken.authenticated(
+                AuthUser.of(1L, "user@example.com", "USER"),
+                null,
+                AuthorityUtils.createAuthorityList("ROLE_USER")
+        );
+        stompPrincipal = authentication;
+    }
+
+    @Benchmark
+    public String resolveEmailFromAuthentication() {
+        return AuthPrincipalUtils.resolveEmail(authentication);
+    }
+
+    @Benchmark
+    public String resolveEmailFromPrincipal() {
+        return AuthPrincipalUtils.resolveEmail(stompPrincipal);
+    }
+}
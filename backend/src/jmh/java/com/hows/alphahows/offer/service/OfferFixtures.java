@@ -0,0 +1,136 @@
+package com.hows.alphahows.offer.service;
+
+import com.hows.alphahows.auth.service.CurrentUserResolver;
+import com.hows.alphahows.offer.entity.EmploymentType;
+import com.hows.alphahows.offer.entity.Offer;
+import com.hows.alphahows.offer.entity.OfferStatus;
+import com.hows.alphahows.offer.entity.SalaryUnit;
+import com.hows.alphahows.offer.entity.WorkType;
+import com.hows.alphahows.offer.repository.OfferRepository;
+import com.hows.alphahows.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 벤치마크용 합성 제안 데이터와, DB 없이 메모리 목록을 돌려주는 OfferService 구성
+ * 목록 조건은 운영에서는 쿼리가 거르므로, 여기서는 저장소 대역이 같은 조건으로 미리 거른 목록을 돌려줍니다.
+ */
+final class OfferFixtures {
+
+    static final int RECRUITER_COUNT = 100;
+
+    private static final String[] COMPANIES = {"Alpha", "Bravo Labs", "Charlie Soft", "Delta Systems", "Echo Works"};
+    private static final String[] POSITIONS = {"Backend Engineer", "Frontend Engineer", "Data Engineer", "DevOps", "Designer"};
+
+    private OfferFixtures() {
+    }
+
+    static List<User> recruiters() {
+        List<User> recruiters = new ArrayList<>(RECRUITER_COUNT);
+        for (long id = 1; id <= RECRUITER_COUNT; id++) {
+            recruiters.add(User.builder()
+                    .id(id)
+                    .email("recruiter" + id + "@example.com")
+                    .nickname("recruiter" + id)
+                    .provider("LOCAL")
+                    .role("USER")
+                    .build());
+        }
+        return recruiters;
+    }
+
+    /**
+     * 최신순(id 내림차순)으로 정렬된 제안 목록. 시드가 고정이라 실행마다 같은 데이터가 만들어집니다.
+     */
+    static List<Offer> offers(int count, List<User> recruiters) {
+        Random random = new Random(42);
+        OfferStatus[] statuses = OfferStatus.values();
+        List<Offer> offers = new ArrayList<>(count);
+        for (long id = count; id >= 1; id--) {
+            offers.add(Offer.builder()
+                    .id(id)
+                    .recruiter(recruiters.get(random.nextInt(recruiters.size())))
+                    .companyName(COMPANIES[random.nextInt(COMPANIES.length)] + " " + id)
+                    .positionTitle(POSITIONS[random.nextInt(POSITIONS.length)])
+                    .contactEmail("contact" + id + "@example.com")
+                    .contactPhone("010-0000-" + String.format("%04d", id % 10000))
+                    .employmentType(EmploymentType.FULL_TIME)
+                    .workType(WorkType.HYBRID)
+                    .message("안녕하세요. 함께 일할 분을 찾고 있습니다. 제안 번호 " + id + "번에 대한 상세 내용을 확인해 주세요.")
+                    .status(statuses[random.nextInt(statuses.length)])
+                    .salaryMin(BigDecimal.valueOf(4000 + random.nextInt(2000)))
+                    .salaryMax(BigDecimal.valueOf(6000 + random.nextInt(4000)))
+                    .currency("KRW")
+                    .salaryUnit(SalaryUnit.YEAR)
+                    .adminRead(random.nextBoolean())
+                    .recruiterRead(random.nextBoolean())
+                    .build());
+        }
+        return offers;
+    }
+
+    static OfferService offerService(List<Offer> offers) {
+        Map<Long, List<Offer>> byRecruiter = offers.stream()
+                .collect(Collectors.groupingBy(offer -> offer.getRecruiter().getId()));
+        byRecruiter.values().forEach(list -> list.sort(Comparator.comparing(Offer::getId).reversed()));
+
+        OfferRepository repository = (OfferRepository) Proxy.newProxyInstance(
+                OfferRepository.class.getClassLoader(),
+                new Class<?>[]{OfferRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "streamOffers" -> streamOffers(offers, byRecruiter, args);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryOfferRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+        // 영속성 컨텍스트가 없으므로 스트림 중 clear()는 아무 일도 하지 않음
+        EntityManager entityManager = (EntityManager) Proxy.newProxyInstance(
+                EntityManager.class.getClassLoader(),
+                new Class<?>[]{EntityManager.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "clear" -> null;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "NoOpEntityManager";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+        return new OfferService(
+                new CurrentUserResolver(), repository, null, null, null, new SimpleMeterRegistry(), entityManager);
+    }
+
+    // OfferRepositoryCustom#streamOffers(recruiterId, status, adminRead, recruiterRead, keyword)와 같은 조건
+    private static Stream<Offer> streamOffers(List<Offer> offers, Map<Long, List<Offer>> byRecruiter, Object[] args) {
+        Long recruiterId = (Long) args[0];
+        OfferStatus status = (OfferStatus) args[1];
+        Boolean adminRead = (Boolean) args[2];
+        Boolean recruiterRead = (Boolean) args[3];
+        String keyword = args[4] == null ? null : ((String) args[4]).trim().toLowerCase(Locale.ROOT);
+        List<Offer> source = recruiterId == null ? offers : byRecruiter.getOrDefault(recruiterId, List.of());
+        return source.stream()
+                .filter(offer -> status == null || offer.getStatus() == status)
+                .filter(offer -> adminRead == null || offer.isAdminRead() == adminRead)
+                .filter(offer -> recruiterRead == null || offer.isRecruiterRead() == recruiterRead)
+                .filter(offer -> keyword == null || keyword.isEmpty()
+                        || contains(offer.getCompanyName(), keyword)
+                        || contains(offer.getPositionTitle(), keyword)
+                        || contains(offer.getMessage(), keyword)
+                        || (recruiterId == null && contains(offer.getRecruiter().getEmail(), keyword)));
+    }
+
+    private static boolean contains(String source, String keyword) {
+        return source != null && source.toLowerCase(Locale.ROOT).contains(keyword);
+    }
+}
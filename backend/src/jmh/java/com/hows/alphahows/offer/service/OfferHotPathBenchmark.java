@@ -0,0 +1,46 @@
+package com.hows.alphahows.offer.service;
+
+import com.hows.alphahows.offer.dto.OfferResponse;
+import com.hows.alphahows.offer.entity.Offer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 제안 한 건 단위의 응답 매핑, 알림 토픽 키 계산 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OfferHotPathBenchmark {
+
+    private Offer offer;
+    private String email;
+
+    @Setup
+    public void setUp() {
+        offer = OfferFixtures.offers(1, OfferFixtures.recruiters()).get(0);
+        email = "Recruiter.Name+offers@Example.co.kr";
+    }
+
+    @Benchmark
+    public OfferResponse offerResponseFrom() {
+        return OfferResponse.from(offer, true, false);
+    }
+
+    @Benchmark
+    public String toTopicKey() {
+        return OfferNotificationService.toTopicKey(email);
+    }
+}
@@ -0,0 +1,78 @@
+package com.hows.alphahows.offer.service;
+
+import com.hows.alphahows.auth.principal.AuthUser;
+import com.hows.alphahows.offer.dto.OfferListView;
+import com.hows.alphahows.offer.entity.OfferStatus;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+/**
+ * OfferService.streamOffers의 응답 매핑 비용 (조건 필터는 저장소 대역에서 처리, DB 조회와 JSON 직렬화 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OfferListBenchmark {
+
+    @Param({"10000", "100000"})
+    private int offerCount;
+
+    private OfferService offerService;
+    private Authentication admin;
+    private Authentication recruiter;
+
+    @Setup
+    public void setUp() {
+        offerService = OfferFixtures.offerService(OfferFixtures.offers(offerCount, OfferFixtures.recruiters()));
+        admin = authenticated(AuthUser.of(1000L, "admin@example.com", "ADMIN"), "ROLE_ADMIN");
+        recruiter = authenticated(AuthUser.of(1L, "recruiter1@example.com", "USER"), "ROLE_USER");
+    }
+
+    @Benchmark
+    public void adminAll(Blackhole blackhole) {
+        offerService.streamOffers(admin, null, null, null, OfferListView.FULL, blackhole::consume);
+    }
+
+    @Benchmark
+    public void adminFiltered(Blackhole blackhole) {
+        offerService.streamOffers(admin, OfferStatus.SUBMITTED, false, "backend", OfferListView.FULL, blackhole::consume);
+    }
+
+    @Benchmark
+    public void adminKeywordMiss(Blackhole blackhole) {
+        offerService.streamOffers(admin, null, null, "no-such-keyword", OfferListView.FULL, blackhole::consume);
+    }
+
+    @Benchmark
+    public void recruiterAll(Blackhole blackhole) {
+        offerService.streamOffers(recruiter, null, null, null, OfferListView.FULL, blackhole::consume);
+    }
+
+    @Benchmark
+    public void adminAllSummary(Blackhole blackhole) {
+        offerService.streamOffers(admin, null, null, null, OfferListView.SUMMARY, blackhole::consume);
+    }
+
+    private static Authentication authenticated(AuthUser user, String authority) {
+        return UsernamePasswordAuthenticationToken.authenticated(
+                user, null, AuthorityUtils.createAuthorityList(authority)
+        );
+    }
+}
@@ -0,0 +1,382 @@
+package com.hows.alphahows.loadtest;
+
+import com.hows.alphahows.AlphaHowsApplication;
+import com.hows.alphahows.auth.token.AccessTokenProvider;
+import com.hows.alphahows.offer.entity.EmploymentType;
+import com.hows.alphahows.offer.entity.Offer;
+import com.hows.alphahows.offer.entity.OfferStatus;
+import com.hows.alphahows.offer.entity.WorkType;
+import com.hows.alphahows.offer.repository.OfferRepository;
+import com.hows.alphahows.user.entity.User;
+import com.hows.alphahows.user.repository.UserRepository;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 제안 API + STOMP 알림 부하 테스트.
+ * H2(MySQL 모드)로 애플리케이션을 띄우고 사용자/제안을 시드한 뒤,
+ * 모든 사용자를 /ws에 구독시킨 상태에서 REST 요청과 관리자 상태 변경(알림 발생)을 동시에 보냅니다.
+ *
+ * 실행: ./mvnw -Ploadtest verify -Dloadtest.args="users=2000 duration=30s"
+ * 인자(key=value): users, offers-per-user, clients, notify-rate(초당 상태 변경 수), warmup, duration, result,
+ * threads(platform|virtual, 가상 스레드 모드와 플랫폼 스레드 풀 비교용, virtual은 Java 21 이상 필요)
+ */
+public final class OfferLoadTest {
+
+    private static final String LIST = "GET /api/offers";
+    private static final String UNREAD_COUNT = "GET /api/offers/unread-count";
+    private static final String CONFIRM = "POST /api/offers/confirm";
+    private static final String STATUS_UPDATE = "PATCH /api/offers/{offerId}/status";
+
+    private OfferLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int userCount = Integer.parseInt(options.getOrDefault("users", "2000"));
+        int offersPerUser = Integer.parseInt(options.getOrDefault("offers-per-user", "5"));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "64"));
+        int notifyRate = Integer.parseInt(options.getOrDefault("notify-rate", "50"));
+        Duration warmup = DurationStyle.detectAndParse(options.getOrDefault("warmup", "5s"));
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "30s"));
+        Path result = Path.of(options.getOrDefault("result", "target/loadtest-result.json"));
+        boolean virtualThreads = "virtual".equals(options.getOrDefault("threads", "platform"));
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("threads=virtual requires Java 21+, running on " + Runtime.version());
+        }
+
+        try (ConfigurableApplicationContext context = startApplication(userCount, virtualThreads)) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            Seed seed = seed(context, userCount, offersPerUser);
+            System.out.printf("seeded users=%d offers=%d, connecting %d STOMP subscribers%n",
+                    userCount, seed.offerIds().size(), userCount);
+
+            StompSwarm swarm = new StompSwarm();
+            swarm.connect(port, seed.userTokens());
+            System.out.printf("connected=%d, warmup=%s, duration=%s, clients=%d, notify-rate=%d/s%n",
+                    swarm.connected(), warmup, duration, clients, notifyRate);
+
+            Run run = new Run(port, seed, clients, notifyRate, swarm);
+            Map<String, Object> report;
+            String threads = virtualThreads ? "virtual" : "platform";
+            try {
+                run.start();
+                Thread.sleep(warmup.toMillis());
+                run.measuring = true;
+                long started = System.nanoTime();
+                Thread.sleep(duration.toMillis());
+                run.measuring = false;
+                double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+                // 측정 종료 직전에 보낸 알림이 도착할 시간을 둔다
+                Thread.sleep(2000);
+                run.stop();
+                report = report(run, swarm, seconds, userCount, clients, notifyRate, threads);
+            } finally {
+                run.stop();
+                swarm.disconnect();
+            }
+
+            print(report);
+            Files.createDirectories(result.toAbsolutePath().getParent());
+            JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValue(result.toFile(), report);
+            System.out.println("result: " + result.toAbsolutePath());
+        }
+    }
+
+    /**
+     * application.properties의 RDS 설정보다 우선하도록 시스템 속성으로 덮어씁니다.
+     */
+    private static ConfigurableApplicationContext startApplication(int userCount, boolean virtualThreads) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("server.tomcat.max-connections", userCount + 2000);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        // 스키마는 Flyway가 만들고, H2의 컬럼 타입 보고가 MySQL과 달라 validate는 끈다
+        properties.put("spring.jpa.hibernate.ddl-auto", "none");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.security.oauth2.client.registration.kakao.client-id", "loadtest");
+        properties.put("spring.security.oauth2.client.registration.kakao.client-secret", "loadtest");
+        properties.put("spring.threads.virtual.enabled", virtualThreads);
+        properties.put("spring.devtools.restart.enabled", false);
+        properties.put("logging.level.root", "warn");
+        properties.forEach((key, value) -> System.setProperty(key, String.valueOf(value)));
+        return new SpringApplicationBuilder(AlphaHowsApplication.class).run();
+    }
+
+    private static Seed seed(ConfigurableApplicationContext context, int userCount, int offersPerUser) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        OfferRepository offerRepository = context.getBean(OfferRepository.class);
+        AccessTokenProvider tokenProvider = context.getBean(AccessTokenProvider.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        return transactionTemplate.execute(status -> {
+            User admin = userRepository.save(User.builder()
+                    .email("admin@loadtest.local").nickname("admin").provider("LOCAL").role("ADMIN").build());
+            List<User> users = new ArrayList<>(userCount);
+            for (int i = 0; i < userCount; i++) {
+                users.add(User.builder()
+                        .email("user" + i + "@loadtest.local").nickname("user" + i).provider("LOCAL").role("USER").build());
+            }
+            users = userRepository.saveAll(users);
+
+            List<Offer> offers = new ArrayList<>(userCount * offersPerUser);
+            for (User user : users) {
+                for (int i = 0; i < offersPerUser; i++) {
+                    offers.add(Offer.builder()
+                            .recruiter(user)
+                            .companyName("Company " + user.getId() + "-" + i)
+                            .positionTitle(i % 2 == 0 ? "Backend Engineer" : "Frontend Engineer")
+                            .employmentType(EmploymentType.FULL_TIME)
+                            .workType(WorkType.HYBRID)
+                            .message("load test offer")
+                            .status(OfferStatus.SUBMITTED)
+                            .build());
+                }
+            }
+            List<Long> offerIds = offerRepository.saveAll(offers).stream().map(Offer::getId).toList();
+            List<String> userTokens = users.stream().map(tokenProvider::createAccessToken).toList();
+            return new Seed(tokenProvider.createAccessToken(admin), userTokens, offerIds);
+        });
+    }
+
+    private static Map<String, Object> report(
+            Run run,
+            StompSwarm swarm,
+            double seconds,
+            int userCount,
+            int clients,
+            int notifyRate,
+            String threads
+    ) {
+        Map<String, Object> setup = new LinkedHashMap<>();
+        setup.put("threads", threads);
+        setup.put("users", userCount);
+        setup.put("subscribers", swarm.connected());
+        setup.put("clients", clients);
+        setup.put("notifyRatePerSec", notifyRate);
+        setup.put("measuredSeconds", Math.round(seconds * 100) / 100.0);
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        run.samples.forEach((endpoint, samples) -> endpoints.put(endpoint, samples.summarize(seconds)));
+
+        long expected = run.notificationsSent.get();
+        Map<String, Object> notifications = swarm.lag().summarize(seconds);
+        notifications.put("expected", expected);
+        notifications.put("deliveryRatio", expected == 0 ? 0 : Math.round(swarm.received() * 1000.0 / expected) / 1000.0);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("setup", setup);
+        report.put("endpoints", endpoints);
+        report.put("notificationLag", notifications);
+        return report;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> report) {
+        System.out.println();
+        System.out.println("setup: " + report.get("setup"));
+        System.out.printf("%-36s %9s %7s %10s %9s %9s %9s%n", "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        ((Map<String, Map<String, Object>>) report.get("endpoints")).forEach((endpoint, summary) -> printRow(endpoint, summary));
+        Map<String, Object> lag = (Map<String, Object>) report.get("notificationLag");
+        printRow("STOMP notification lag", lag);
+        System.out.printf("notifications delivered=%s expected=%s ratio=%s%n",
+                lag.get("count"), lag.get("expected"), lag.get("deliveryRatio"));
+    }
+
+    private static void printRow(String name, Map<String, Object> summary) {
+        System.out.printf("%-36s %9s %7s %10s %9s %9s %9s%n", name, summary.get("count"), summary.get("errors"),
+                summary.get("throughputPerSec"), summary.get("p50Ms"), summary.get("p99Ms"), summary.get("maxMs"));
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private record Seed(String adminToken, List<String> userTokens, List<Long> offerIds) {
+    }
+
+    /**
+     * REST 워커(닫힌 루프)와 관리자 상태 변경 발생기(열린 루프, 고정 속도)를 함께 돌립니다.
+     */
+    private static final class Run {
+
+        private final String baseUrl;
+        private final Seed seed;
+        private final int clients;
+        private final int notifyRate;
+        private final StompSwarm swarm;
+        private final HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        private final Map<String, LatencySamples> samples = new LinkedHashMap<>();
+        private final AtomicLong notificationsSent = new AtomicLong();
+        private final ExecutorService workers;
+        private final ExecutorService notifier = Executors.newSingleThreadExecutor();
+        private volatile boolean running = true;
+        private volatile boolean measuring;
+
+        Run(int port, Seed seed, int clients, int notifyRate, StompSwarm swarm) {
+            this.baseUrl = "http://localhost:" + port;
+            this.seed = seed;
+            this.clients = clients;
+            this.notifyRate = notifyRate;
+            this.swarm = swarm;
+            this.workers = Executors.newFixedThreadPool(clients);
+            for (String endpoint : List.of(LIST, UNREAD_COUNT, CONFIRM, STATUS_UPDATE)) {
+                samples.put(endpoint, new LatencySamples());
+            }
+        }
+
+        void start() {
+            for (int i = 0; i < clients; i++) {
+                workers.submit(this::restLoop);
+            }
+            if (notifyRate > 0) {
+                notifier.submit(this::notifyLoop);
+            }
+        }
+
+        void stop() throws InterruptedException {
+            running = false;
+            workers.shutdown();
+            notifier.shutdown();
+            workers.awaitTermination(30, TimeUnit.SECONDS);
+            notifier.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        // 사용자 요청 비율: 목록 60%, 미확인 수 30%, 일괄 확인 10%
+        private void restLoop() {
+            Map<String, LatencySamples> local = new HashMap<>();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (running) {
+                String token = seed.userTokens().get(random.nextInt(seed.userTokens().size()));
+                int roll = random.nextInt(10);
+                String endpoint = roll < 6 ? LIST : roll < 9 ? UNREAD_COUNT : CONFIRM;
+                HttpRequest request = switch (endpoint) {
+                    case LIST -> get("/api/offers", token);
+                    case UNREAD_COUNT -> get("/api/offers/unread-count", token);
+                    default -> post("/api/offers/confirm", token);
+                };
+                boolean recording = measuring;
+                long start = System.nanoTime();
+                boolean ok = send(request);
+                if (recording) {
+                    LatencySamples target = local.computeIfAbsent(endpoint, key -> new LatencySamples());
+                    if (ok) {
+                        target.record(System.nanoTime() - start);
+                    } else {
+                        target.recordError();
+                    }
+                }
+            }
+            local.forEach((endpoint, recorded) -> samples.get(endpoint).merge(recorded));
+        }
+
+        // 응답을 기다리지 않고 정해진 간격으로 보내, 서버가 느려져도 알림 발생 속도가 유지되게 한다
+        private void notifyLoop() {
+            long intervalNanos = 1_000_000_000L / notifyRate;
+            long next = System.nanoTime();
+            LatencySamples statusSamples = samples.get(STATUS_UPDATE);
+            while (running) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                next += intervalNanos;
+
+                Long offerId = seed.offerIds().get(ThreadLocalRandom.current().nextInt(seed.offerIds().size()));
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/offers/" + offerId + "/status"))
+                        .header("Authorization", "Bearer " + seed.adminToken())
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"status\":\"SUBMITTED\"}"))
+                        .build();
+                boolean recording = measuring;
+                if (recording) {
+                    swarm.expect(offerId);
+                }
+                long start = System.nanoTime();
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, error) -> {
+                            if (!recording) {
+                                return;
+                            }
+                            boolean ok = error == null && response.statusCode() / 100 == 2;
+                            synchronized (statusSamples) {
+                                if (ok) {
+                                    statusSamples.record(System.nanoTime() - start);
+                                } else {
+                                    statusSamples.recordError();
+                                }
+                            }
+                            if (ok) {
+                                notificationsSent.incrementAndGet();
+                            } else {
+                                swarm.cancel(offerId);
+                            }
+                        });
+            }
+        }
+
+        private boolean send(HttpRequest request) {
+            try {
+                return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        private HttpRequest get(String path, String token) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build();
+        }
+
+        private HttpRequest post(String path, String token) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + token)
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+        }
+    }
+}
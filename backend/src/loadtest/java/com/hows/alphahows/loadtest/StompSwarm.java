@@ -0,0 +1,126 @@
+package com.hows.alphahows.loadtest;
+
+import com.hows.alphahows.offer.dto.OfferNotificationMessage;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.messaging.converter.JacksonJsonMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * 사용자별 토큰으로 /ws에 STOMP 연결을 맺고 /user/queue/notifications를 구독하는 클라이언트 묶음.
+ * 알림 지연은 메시지의 createdAt(서버가 알림을 만든 시각)부터 수신 시각까지로 잽니다.
+ * 같은 JVM에서 실행하므로 시계 차이는 없습니다.
+ */
+final class StompSwarm {
+
+    private static final int CONNECT_BATCH = 200;
+
+    private final WebSocketStompClient stompClient;
+    private final List<StompSession> sessions = new ArrayList<>();
+    private final LatencySamples lag = new LatencySamples();
+    private final AtomicLong received = new AtomicLong();
+    private final Map<Long, Integer> pending = new ConcurrentHashMap<>();
+
+    StompSwarm() {
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new JacksonJsonMessageConverter());
+    }
+
+    /**
+     * SockJS 엔드포인트의 순수 WebSocket 경로(/ws/websocket)로 접속합니다.
+     * 핸드셰이크가 한꺼번에 몰리지 않도록 CONNECT_BATCH 단위로 나눠 연결합니다.
+     */
+    void connect(int port, List<String> accessTokens) throws Exception {
+        URI uri = URI.create("ws://localhost:" + port + "/ws/websocket");
+        for (int from = 0; from < accessTokens.size(); from += CONNECT_BATCH) {
+            List<CompletableFuture<StompSession>> batch = new ArrayList<>();
+            for (String token : accessTokens.subList(from, Math.min(from + CONNECT_BATCH, accessTokens.size()))) {
+                WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+                headers.setBearerAuth(token);
+                batch.add(stompClient.connectAsync(uri, headers, new StompHeaders(), new StompSessionHandlerAdapter() {
+                }));
+            }
+            for (CompletableFuture<StompSession> future : batch) {
+                StompSession session = future.get(30, TimeUnit.SECONDS);
+                session.subscribe("/user/queue/notifications", new NotificationHandler());
+                sessions.add(session);
+            }
+        }
+    }
+
+    /**
+     * 측정 구간에 보낸 상태 변경 한 건에 대한 알림을 기다립니다.
+     * 워밍업 중 보낸 요청의 알림이 구간 안에 도착해도 집계되지 않도록 제안 id로 짝을 맞춥니다.
+     */
+    void expect(Long offerId) {
+        pending.merge(offerId, 1, Integer::sum);
+    }
+
+    void cancel(Long offerId) {
+        pending.computeIfPresent(offerId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    int connected() {
+        return (int) sessions.stream().filter(StompSession::isConnected).count();
+    }
+
+    long received() {
+        return received.get();
+    }
+
+    LatencySamples lag() {
+        return lag;
+    }
+
+    void disconnect() {
+        sessions.forEach(session -> {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        });
+        stompClient.stop();
+    }
+
+    private class NotificationHandler implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return OfferNotificationMessage.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            if (!(payload instanceof OfferNotificationMessage message) || message.createdAt() == null) {
+                return;
+            }
+            boolean[] matched = new boolean[1];
+            pending.computeIfPresent(message.offerId(), (id, count) -> {
+                matched[0] = true;
+                return count > 1 ? count - 1 : null;
+            });
+            if (!matched[0]) {
+                return;
+            }
+            long lagNanos = ChronoUnit.NANOS.between(message.createdAt(), LocalDateTime.now());
+            received.incrementAndGet();
+            synchronized (lag) {
+                lag.record(Math.max(0, lagNanos));
+            }
+        }
+    }
+}
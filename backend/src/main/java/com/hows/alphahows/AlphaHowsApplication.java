@@ -2,12 +2,16 @@ package com.hows.alphahows;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class AlphaHowsApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(AlphaHowsApplication.class, args);
+        SpringApplication application = new SpringApplication(AlphaHowsApplication.class);
+        // 기동 단계별 소요 시간 기록 (StartupTimeReporter 로그, /actuator/startup)
+        application.setApplicationStartup(new BufferingApplicationStartup(4096));
+        application.run(args);
     }
 
 }
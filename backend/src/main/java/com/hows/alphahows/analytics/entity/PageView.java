@@ -1,12 +1,15 @@
 package com.hows.alphahows.analytics.entity;
 
 import com.hows.alphahows.common.BaseTimeEntity;
+import com.hows.alphahows.common.IdAllocation;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDate;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -19,11 +22,22 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "page_views")
+@Table(
+        name = "page_views",
+        indexes = @Index(name = "idx_page_views_date_path", columnList = "view_date, path")
+)
 public class PageView extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "page_views_id")
+    @TableGenerator(
+            name = "page_views_id",
+            table = IdAllocation.TABLE,
+            pkColumnName = IdAllocation.PK_COLUMN,
+            valueColumnName = IdAllocation.VALUE_COLUMN,
+            pkColumnValue = "page_views",
+            allocationSize = IdAllocation.ALLOCATION_SIZE
+    )
     @Column(name = "view_id")
     private Long id;
 
@@ -1,23 +1,25 @@
 package com.hows.alphahows.auth.controller;
 
+import com.hows.alphahows.auth.dto.IssuedTokens;
 import com.hows.alphahows.auth.dto.LoginRequest;
+import com.hows.alphahows.auth.dto.TokenResponse;
+import com.hows.alphahows.auth.principal.AuthUser;
 import com.hows.alphahows.auth.service.AuthService;
-import com.hows.alphahows.auth.util.AuthPrincipalUtils;
+import com.hows.alphahows.auth.service.CurrentUserResolver;
+import com.hows.alphahows.auth.service.TokenService;
+import com.hows.alphahows.auth.token.AccessTokenProvider;
+import com.hows.alphahows.auth.token.AuthTokenCookies;
 import com.hows.alphahows.user.entity.User;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
-import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -30,24 +32,19 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final CurrentUserResolver currentUserResolver;
+    private final TokenService tokenService;
+    private final AccessTokenProvider accessTokenProvider;
+    private final AuthTokenCookies authTokenCookies;
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+    public ResponseEntity<?> login(@RequestBody LoginRequest request, HttpServletResponse httpResponse) {
         try {
             User user = authService.login(request);
 
-            Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    user.getEmail(),
-                    null,
-                    Collections.singleton(new SimpleGrantedAuthority("ROLE_" + user.getRole()))
-            );
-
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-
-            HttpSession session = httpRequest.getSession(true);
-            session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, context);
+            IssuedTokens tokens = tokenService.issue(user);
+            authTokenCookies.writeAccessToken(httpResponse, tokens.accessToken());
+            authTokenCookies.writeRefreshToken(httpResponse, tokens.refreshToken());
 
             return ResponseEntity.ok("Login Successful: " + user.getNickname());
         } catch (IllegalArgumentException e) {
@@ -63,30 +60,37 @@ public class AuthController {
             return ResponseEntity.ok(Map.of("authenticated", false));
         }
 
-        Object principal = authentication.getPrincipal();
-        String nickname = null;
-        String email = AuthPrincipalUtils.resolveEmail(authentication);
-        User user = email == null ? null : authService.findByEmail(email).orElse(null);
-        String role = user == null ? "USER" : normalizeRole(user.getRole());
-
-        if (user != null && user.getNickname() != null && !user.getNickname().isBlank()) {
-            nickname = user.getNickname();
-        } else if (principal instanceof String username) {
-            nickname = username;
-        } else if (principal != null) {
-            nickname = principal.toString();
-        }
+        AuthUser authUser = currentUserResolver.resolve(authentication);
+        String nickname = authService.findById(authUser.getUserId())
+                .map(User::getNickname)
+                .filter(name -> !name.isBlank())
+                .orElse(authUser.getEmail());
 
         return ResponseEntity.ok(Map.of(
                 "authenticated", true,
-                "nickname", nickname == null ? "User" : nickname,
-                "email", email == null ? "" : email,
-                "role", normalizeRole(role)
+                "nickname", nickname,
+                "email", authUser.getEmail(),
+                "role", normalizeRole(authUser.getRole())
         ));
     }
 
+    @PostMapping("/refresh")
+    public TokenResponse refresh(HttpServletRequest request, HttpServletResponse response) {
+        IssuedTokens tokens = tokenService.rotate(authTokenCookies.resolveRefreshToken(request));
+        authTokenCookies.writeAccessToken(response, tokens.accessToken());
+        authTokenCookies.writeRefreshToken(response, tokens.refreshToken());
+        return new TokenResponse(
+                tokens.accessToken(),
+                "Bearer",
+                accessTokenProvider.getAccessTokenTtl().toSeconds()
+        );
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpServletRequest request) {
+    public ResponseEntity<?> logout(HttpServletRequest request, HttpServletResponse response) {
+        tokenService.revoke(authTokenCookies.resolveRefreshToken(request));
+        authTokenCookies.clear(response);
+
         HttpSession session = request.getSession(false);
         if (session != null) {
             session.invalidate();
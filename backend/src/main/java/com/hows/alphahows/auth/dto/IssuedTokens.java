@@ -0,0 +1,7 @@
+package com.hows.alphahows.auth.dto;
+
+public record IssuedTokens(
+        String accessToken,
+        String refreshToken
+) {
+}
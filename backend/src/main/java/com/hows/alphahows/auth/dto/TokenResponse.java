@@ -0,0 +1,8 @@
+package com.hows.alphahows.auth.dto;
+
+public record TokenResponse(
+        String accessToken,
+        String tokenType,
+        long expiresIn
+) {
+}
@@ -0,0 +1,63 @@
+package com.hows.alphahows.auth.principal;
+
+import com.hows.alphahows.user.entity.User;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+/**
+ * 인증 시점에 한 번 해석한 사용자 식별 정보.
+ * 액세스 토큰 검증과 소셜 로그인 모두 이 principal을 만들어 두므로,
+ * 이후 요청 처리에서는 속성 맵 탐색이나 이메일 기반 DB 조회 없이 userId·권한을 바로 읽습니다.
+ */
+@Getter
+public class AuthUser implements OAuth2User, Serializable {
+
+    private final Long userId;
+    private final String email;
+    private final String role;
+    private final Map<String, Object> attributes;
+    private final List<GrantedAuthority> authorities;
+
+    private AuthUser(Long userId, String email, String role, Map<String, Object> attributes) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.attributes = attributes;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    public static AuthUser of(Long userId, String email, String role) {
+        return new AuthUser(userId, email, role, Map.of());
+    }
+
+    // 소셜 로그인 속성에는 null 값이 올 수 있으므로 Map.copyOf 대신 null을 허용하는 읽기 전용 복사본으로 보관
+    public static AuthUser of(User user, Map<String, Object> attributes) {
+        return new AuthUser(user.getId(), user.getEmail(), user.getRole(),
+                Collections.unmodifiableMap(new LinkedHashMap<>(attributes)));
+    }
+
+    public boolean isAdmin() {
+        return "ADMIN".equalsIgnoreCase(role);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * Authentication#getName, WebSocket 사용자 목적지 모두 이메일을 기준으로 사용
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+}
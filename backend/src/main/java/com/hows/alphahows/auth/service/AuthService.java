@@ -3,10 +3,10 @@ package com.hows.alphahows.auth.service;
 import com.hows.alphahows.auth.dto.LoginRequest;
 import com.hows.alphahows.user.entity.User;
 import com.hows.alphahows.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -14,23 +14,46 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class AuthService {
 
+    // 계정 존재 여부가 드러나지 않도록 미가입/비밀번호 불일치에 같은 메시지 사용 (구분은 auth.login outcome 태그로만)
+    private static final String LOGIN_FAILED_MESSAGE = "이메일 또는 비밀번호가 올바르지 않습니다.";
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
+    private final MeterRegistry meterRegistry;
 
-    @Transactional(readOnly = true)
+    // BCrypt 연산 동안 DB 커넥션을 붙잡지 않도록 트랜잭션 없이 조회 → 검증 → (필요 시) 갱신 순으로 처리
     public User login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("가입되지 않은 이메일입니다."));
-
-        if (!request.getPassword().equals(user.getPassword())) {
-            throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Optional<User> found = userRepository.findByEmail(request.getEmail());
+            PasswordVerifier.Result result = passwordVerifier.verify(
+                    request.getPassword(),
+                    found.map(User::getPassword).orElse(null));
+
+            if (found.isEmpty()) {
+                outcome = "unknown_user";
+                throw new IllegalArgumentException(LOGIN_FAILED_MESSAGE);
+            }
+            User user = found.get();
+            if (!result.matched()) {
+                outcome = "bad_password";
+                throw new IllegalArgumentException(LOGIN_FAILED_MESSAGE);
+            }
+
+            if (result.upgradedHash() != null) {
+                userRepository.updatePassword(user.getId(), result.upgradedHash());
+            }
+            outcome = "success";
+            return user;
+        } finally {
+            // 검증 풀 포화(429)/타임아웃(503)은 error로 집계
+            sample.stop(meterRegistry.timer("auth.login", "outcome", outcome));
         }
-
-        return user;
     }
 
-    @Transactional(readOnly = true)
-    public Optional<User> findByEmail(String email) {
-        return userRepository.findByEmail(email);
+    // id 조회라 User 2차 캐시에 적중하면 DB를 거치지 않음
+    public Optional<User> findById(Long userId) {
+        return userRepository.findById(userId);
     }
 }
@@ -0,0 +1,45 @@
+package com.hows.alphahows.auth.service;
+
+import com.hows.alphahows.auth.principal.AuthUser;
+import com.hows.alphahows.auth.util.AuthPrincipalUtils;
+import java.util.function.Consumer;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 서비스 계층에서 요청자를 AuthUser로 해석합니다.
+ * 인증되지 않았거나 principal이 AuthUser가 아니면 401로 끝냅니다.
+ * 권한 판단은 AuthUser#isAdmin을 그대로 사용합니다.
+ */
+@Component
+public class CurrentUserResolver {
+
+    public static final String OUTCOME_RESOLVED = "resolved";
+    public static final String OUTCOME_UNAUTHENTICATED = "unauthenticated";
+    public static final String OUTCOME_UNRESOLVED = "unresolved";
+
+    public AuthUser resolve(Authentication authentication) {
+        return resolve(authentication, outcome -> {
+        });
+    }
+
+    /**
+     * 해석 결과(resolved/unauthenticated/unresolved)를 outcomeRecorder로 넘겨 호출 측이 집계할 수 있게 합니다.
+     */
+    public AuthUser resolve(Authentication authentication, Consumer<String> outcomeRecorder) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            outcomeRecorder.accept(OUTCOME_UNAUTHENTICATED);
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
+        }
+
+        AuthUser authUser = AuthPrincipalUtils.resolveAuthUser(authentication);
+        if (authUser == null) {
+            outcomeRecorder.accept(OUTCOME_UNRESOLVED);
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Cannot resolve current user");
+        }
+        outcomeRecorder.accept(OUTCOME_RESOLVED);
+        return authUser;
+    }
+}
@@ -1,88 +1,116 @@
 package com.hows.alphahows.auth.service;
 
+import com.hows.alphahows.auth.principal.AuthUser;
 import com.hows.alphahows.user.entity.User;
 import com.hows.alphahows.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
-import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
 
-import java.util.Collections;
 import java.util.Map;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
+    private static final String PROVIDER = "KAKAO";
+
     private final UserRepository userRepository;
+    private final DefaultOAuth2UserService delegate;
+
+    public CustomOAuth2UserService(
+            UserRepository userRepository,
+            @Value("${auth.oauth2.connect-timeout:3s}") Duration connectTimeout,
+            @Value("${auth.oauth2.read-timeout:5s}") Duration readTimeout
+    ) {
+        this.userRepository = userRepository;
+        this.delegate = createDelegate(connectTimeout, readTimeout);
+    }
+
+    /**
+     * 사용자 정보 조회용 클라이언트는 한 번만 만들어 재사용합니다.
+     * JDK HttpClient가 keep-alive 커넥션을 풀링하므로 로그인마다 TLS 연결을 새로 맺지 않습니다.
+     */
+    private static DefaultOAuth2UserService createDelegate(Duration connectTimeout, Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+
+        DefaultOAuth2UserService service = new DefaultOAuth2UserService();
+        service.setRestOperations(restTemplate);
+        return service;
+    }
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         // 1. 기본 서비스로 유저 정보 가져오기
-        OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate = new DefaultOAuth2UserService();
         OAuth2User oAuth2User = delegate.loadUser(userRequest);
 
-        // 2. 서비스 제공자 정보 가져오기 (kakao)
-        String registrationId = userRequest.getClientRegistration().getRegistrationId();
-        String userNameAttributeName = userRequest.getClientRegistration().getProviderDetails()
-                .getUserInfoEndpoint().getUserNameAttributeName();
-
         Map<String, Object> attributes = oAuth2User.getAttributes();
-        log.info("OAuth2 User Info: {}", attributes);
 
-        // 3. 카카오 데이터 파싱
+        // 2. 카카오 데이터 파싱
         // Kakao는 "kakao_account" 안에 "email", "profile" 등이 들어있음
         Map<String, Object> kakaoAccount = (Map<String, Object>) attributes.get("kakao_account");
         Map<String, Object> profile = (Map<String, Object>) kakaoAccount.get("profile");
 
         if (profile == null) {
-            log.error("Kakao Profile is NULL! Check scope permission.");
-        } else {
-            log.info("Kakao Profile: {}", profile);
+            log.warn("Kakao profile is missing. Check scope permission.");
         }
 
         String email = (String) kakaoAccount.get("email");
-        String nickname = (profile != null) ? (String) profile.get("nickname") : "Unknown";
+        String nickname = (profile != null) ? (String) profile.get("nickname") : null;
 
         if (email == null) {
-            // 이메일 권한이 없을 경우 id를 기반으로 임시 이메일 생성 혹은 예외 처리
-            Long id = (Long) attributes.get("id");
-            email = id + "@kakao.com";
-            log.info("Email is null. Generated temp email: {}", email);
+            // 이메일 권한이 없을 경우 id를 기반으로 임시 이메일 생성
+            email = attributes.get("id") + "@kakao.com";
         }
 
-        // 4. DB 저장 또는 업데이트
-        User user = saveOrUpdate(email, nickname, "KAKAO");
+        // 3. DB 저장 또는 변경분만 업데이트
+        User user = upsert(email, nickname);
 
-        // 5. OAuth2User 반환 (Role 등을 설정)
-        // 여기서는 간단히 attributes를 그대로 리턴
-        return new DefaultOAuth2User(
-                Collections.singleton(new SimpleGrantedAuthority("ROLE_" + user.getRole())),
-                attributes,
-                userNameAttributeName);
+        // 4. 해석한 사용자 정보를 담은 principal 반환
+        return AuthUser.of(user, attributes);
     }
 
-    private User saveOrUpdate(String email, String nickname, String provider) {
-        User user = userRepository.findByEmail(email)
-                .map(entity -> {
-                    // 이미 가입된 유저라면 닉네임 등을 업데이트 할 수 있음 (여기선 생략)
-                    return entity;
-                })
-                .orElse(User.builder()
-                        .email(email)
-                        .nickname(nickname)
-                        .password(null) // 소셜 로그인은 비번 없음
-                        .provider(provider)
-                        .role("USER")
-                        .build());
-
-        return userRepository.save(user);
+    /**
+     * 기존 사용자는 닉네임·제공자가 바뀐 경우에만 UPDATE, 신규 사용자만 INSERT 합니다.
+     */
+    private User upsert(String email, String nickname) {
+        User existing = userRepository.findByEmail(email).orElse(null);
+        if (existing != null) {
+            if (existing.applySocialProfile(nickname, PROVIDER)) {
+                userRepository.updateSocialProfile(existing.getId(), existing.getNickname(), existing.getProvider());
+            }
+            return existing;
+        }
+
+        try {
+            return userRepository.save(User.builder()
+                    .email(email)
+                    .nickname(nickname != null ? nickname : "Unknown")
+                    .password(null) // 소셜 로그인은 비번 없음
+                    .provider(PROVIDER)
+                    .role("USER")
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 계정의 첫 로그인이 동시에 들어온 경우: 먼저 저장된 행을 사용
+            return userRepository.findByEmail(email).orElseThrow(() -> e);
+        }
     }
 }
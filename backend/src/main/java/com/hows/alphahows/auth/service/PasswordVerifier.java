@@ -0,0 +1,122 @@
+package com.hows.alphahows.auth.service;
+
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 비밀번호 검증 전용 제한 실행기
+ * BCrypt 연산을 고정 크기 풀과 제한된 대기열에서 처리해 무차별 대입 트래픽이 요청 스레드를 점유하지 못하게 합니다.
+ * 평문/낮은 cost로 저장된 기존 비밀번호는 검증 성공 시 새 해시를 함께 돌려줍니다.
+ */
+@Component
+public class PasswordVerifier {
+
+    private static final String DUMMY_PASSWORD = "dummy-password";
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    // 존재하지 않는 계정도 같은 비용의 해시 비교를 거치도록 하는 더미 해시
+    private final String dummyHash;
+
+    public PasswordVerifier(
+            PasswordEncoder passwordEncoder,
+            @Value("${auth.password.verify-threads:0}") int threads,
+            @Value("${auth.password.verify-queue:64}") int queueCapacity,
+            @Value("${auth.password.verify-timeout:5s}") Duration timeout
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verify-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.dummyHash = passwordEncoder.encode(DUMMY_PASSWORD);
+    }
+
+    public Result verify(String rawPassword, String storedPassword) {
+        Future<Result> future;
+        try {
+            future = executor.submit(() -> doVerify(rawPassword, storedPassword));
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many login attempts");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Password verification timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Password verification interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+
+    private Result doVerify(String rawPassword, String storedPassword) {
+        // 인코더는 빈 비밀번호를 해시 비교 없이 바로 false로 돌려주므로, 빈 입력·미가입 계정 모두 더미 해시와 실제로 비교
+        if (rawPassword == null || rawPassword.isEmpty() || storedPassword == null) {
+            passwordEncoder.matches(DUMMY_PASSWORD, dummyHash);
+            return Result.MISMATCH;
+        }
+
+        if (!BCRYPT_PATTERN.matcher(storedPassword).matches()) {
+            // 해시 도입 이전에 평문으로 저장된 비밀번호: 상수 시간 비교 후 성공 시 해시로 교체
+            passwordEncoder.matches(rawPassword, dummyHash);
+            boolean matched = MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8));
+            return matched ? new Result(true, passwordEncoder.encode(rawPassword)) : Result.MISMATCH;
+        }
+
+        if (!passwordEncoder.matches(rawPassword, storedPassword)) {
+            return Result.MISMATCH;
+        }
+        String upgradedHash = passwordEncoder.upgradeEncoding(storedPassword)
+                ? passwordEncoder.encode(rawPassword)
+                : null;
+        return new Result(true, upgradedHash);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @param upgradedHash 저장된 값을 교체해야 할 때만 새 해시, 아니면 null
+     */
+    public record Result(boolean matched, String upgradedHash) {
+        static final Result MISMATCH = new Result(false, null);
+    }
+}
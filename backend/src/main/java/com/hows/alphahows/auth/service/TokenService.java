@@ -0,0 +1,125 @@
+package com.hows.alphahows.auth.service;
+
+import com.hows.alphahows.auth.dto.IssuedTokens;
+import com.hows.alphahows.auth.token.AccessTokenProvider;
+import com.hows.alphahows.common.PrimaryReads;
+import com.hows.alphahows.user.entity.User;
+import com.hows.alphahows.user.entity.UserSession;
+import com.hows.alphahows.user.repository.UserSessionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 액세스 토큰 발급과 UserSession 기반 리프레시 토큰 회전을 담당합니다.
+ * 리프레시 토큰 원문은 클라이언트에만 있고 DB에는 SHA-256 해시로만 저장/조회합니다.
+ */
+@Service
+public class TokenService {
+
+    private static final int REFRESH_TOKEN_BYTES = 32;
+
+    private final UserSessionRepository userSessionRepository;
+    private final AccessTokenProvider accessTokenProvider;
+    private final Duration refreshTokenTtl;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Counter reissuedCounter;
+    private final Counter reissueRejectedCounter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TokenService(
+            UserSessionRepository userSessionRepository,
+            AccessTokenProvider accessTokenProvider,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${auth.token.refresh-ttl:14d}") Duration refreshTokenTtl
+    ) {
+        this.userSessionRepository = userSessionRepository;
+        this.accessTokenProvider = accessTokenProvider;
+        this.refreshTokenTtl = refreshTokenTtl;
+        this.reissuedCounter = meterRegistry.counter("auth.token.reissue", "outcome", "issued");
+        this.reissueRejectedCounter = meterRegistry.counter("auth.token.reissue", "outcome", "rejected");
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Transactional
+    public IssuedTokens issue(User user) {
+        String refreshToken = generateRefreshToken();
+        userSessionRepository.save(UserSession.builder()
+                .user(user)
+                .refreshToken(hash(refreshToken))
+                .expiresAt(LocalDateTime.now().plus(refreshTokenTtl))
+                .build());
+        return new IssuedTokens(accessTokenProvider.createAccessToken(user), refreshToken);
+    }
+
+    @Transactional
+    public IssuedTokens rotate(String refreshToken) {
+        UserSession session = findActiveSession(refreshToken)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token"));
+
+        String rotated = generateRefreshToken();
+        session.rotate(hash(rotated), LocalDateTime.now().plus(refreshTokenTtl));
+        return new IssuedTokens(accessTokenProvider.createAccessToken(session.getUser()), rotated);
+    }
+
+    /**
+     * 액세스 토큰만 다시 발급합니다. 리프레시 토큰은 회전하지 않으므로
+     * 동시에 들어온 여러 요청이 같은 리프레시 토큰으로 재발급해도 서로 무효화하지 않습니다.
+     * 방금 발급·회전된 세션이 복제 지연으로 안 보이면 정상 토큰을 거절하게 되므로 primary에서 조회합니다.
+     */
+    public Optional<String> reissueAccessToken(String refreshToken) {
+        Optional<String> reissued = PrimaryReads.call(() -> readOnlyTransaction.execute(status ->
+                findActiveSession(refreshToken)
+                        .map(session -> accessTokenProvider.createAccessToken(session.getUser()))));
+        (reissued.isPresent() ? reissuedCounter : reissueRejectedCounter).increment();
+        return reissued;
+    }
+
+    @Transactional
+    public void revoke(String refreshToken) {
+        if (refreshToken != null) {
+            userSessionRepository.deleteByRefreshToken(hash(refreshToken));
+        }
+    }
+
+    private Optional<UserSession> findActiveSession(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return userSessionRepository.findWithUserByRefreshToken(hash(refreshToken))
+                .filter(session -> !session.isExpired(now));
+    }
+
+    private String generateRefreshToken() {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.hows.alphahows.auth.token;
+
+import com.hows.alphahows.auth.service.TokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청마다 액세스 토큰 서명만 검증해 SecurityContext를 채웁니다.
+ * 액세스 토큰이 없거나 만료됐고 리프레시 토큰 쿠키가 있으면 그때만 UserSession을 조회해 재발급합니다.
+ * SecurityConfig에서 직접 생성하며 서블릿 필터로 중복 등록되지 않도록 빈으로 만들지 않습니다.
+ */
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    // 리프레시 토큰을 직접 다루는 엔드포인트에서는 자동 재발급을 하지 않음
+    private static final Set<String> NO_REISSUE_PATHS = Set.of("/api/auth/refresh", "/api/auth/logout");
+
+    private final AccessTokenProvider accessTokenProvider;
+    private final TokenService tokenService;
+    private final AuthTokenCookies authTokenCookies;
+
+    public AccessTokenFilter(
+            AccessTokenProvider accessTokenProvider,
+            TokenService tokenService,
+            AuthTokenCookies authTokenCookies
+    ) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.tokenService = tokenService;
+        this.authTokenCookies = authTokenCookies;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            Authentication authentication = authenticate(request, response);
+            if (authentication != null) {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Authentication authenticate(HttpServletRequest request, HttpServletResponse response) {
+        String accessToken = authTokenCookies.resolveAccessToken(request);
+        if (accessToken != null) {
+            Authentication authentication = accessTokenProvider.authenticate(accessToken);
+            if (authentication != null) {
+                return authentication;
+            }
+        }
+
+        String refreshToken = authTokenCookies.resolveRefreshToken(request);
+        if (refreshToken == null || NO_REISSUE_PATHS.contains(request.getRequestURI())) {
+            return null;
+        }
+        return tokenService.reissueAccessToken(refreshToken)
+                .map(reissued -> {
+                    authTokenCookies.writeAccessToken(response, reissued);
+                    return accessTokenProvider.authenticate(reissued);
+                })
+                .orElse(null);
+    }
+}
@@ -0,0 +1,118 @@
+package com.hows.alphahows.auth.token;
+
+import com.hows.alphahows.auth.principal.AuthUser;
+import com.hows.alphahows.user.entity.User;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * HS256 서명 액세스 토큰 발급/검증
+ * 검증은 서명과 만료만 확인하므로 DB나 세션 조회가 없습니다.
+ * 비밀키가 없거나 32바이트보다 짧으면 기동을 멈춥니다. local/test 프로필에서만 비밀키 없이 임시 키로 기동합니다.
+ */
+@Slf4j
+@Component
+public class AccessTokenProvider {
+
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Profiles EPHEMERAL_KEY_PROFILES = Profiles.of("local", "test");
+    private static final String EMAIL_CLAIM = "email";
+    private static final String ROLE_CLAIM = "role";
+
+    private final JwtEncoder jwtEncoder;
+    private final JwtDecoder jwtDecoder;
+    private final Duration accessTokenTtl;
+
+    public AccessTokenProvider(
+            @Value("${auth.token.secret:}") String secret,
+            @Value("${auth.token.access-ttl:15m}") Duration accessTokenTtl,
+            Environment environment
+    ) {
+        SecretKey key = new SecretKeySpec(resolveSecret(secret, environment), "HmacSHA256");
+        this.jwtEncoder = NimbusJwtEncoder.withSecretKey(key).algorithm(MacAlgorithm.HS256).build();
+        this.jwtDecoder = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+        this.accessTokenTtl = accessTokenTtl;
+    }
+
+    public String createAccessToken(User user) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject(String.valueOf(user.getId()))
+                .issuedAt(now)
+                .expiresAt(now.plus(accessTokenTtl))
+                .claim(EMAIL_CLAIM, user.getEmail())
+                .claim(ROLE_CLAIM, user.getRole())
+                .build();
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+    }
+
+    public Authentication authenticate(String token) {
+        Jwt jwt;
+        try {
+            jwt = jwtDecoder.decode(token);
+        } catch (JwtException e) {
+            return null;
+        }
+        String email = jwt.getClaimAsString(EMAIL_CLAIM);
+        String role = jwt.getClaimAsString(ROLE_CLAIM);
+        Long userId = parseUserId(jwt.getSubject());
+        if (userId == null || email == null || role == null) {
+            return null;
+        }
+        AuthUser principal = AuthUser.of(userId, email, role);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private Long parseUserId(String subject) {
+        try {
+            return subject == null ? null : Long.valueOf(subject);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    private byte[] resolveSecret(String secret, Environment environment) {
+        if (!StringUtils.hasText(secret)) {
+            // 임시 키는 노드마다, 재시작마다 달라지므로 배포 환경에서는 AUTH_TOKEN_SECRET 없이 기동하지 않음
+            if (!environment.acceptsProfiles(EPHEMERAL_KEY_PROFILES)) {
+                throw new IllegalStateException("auth.token.secret (AUTH_TOKEN_SECRET) is required outside the local/test profile");
+            }
+            log.warn("auth.token.secret is not set. Using a random key; issued tokens will not survive restarts.");
+            byte[] random = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("auth.token.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,82 @@
+package com.hows.alphahows.auth.token;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Component
+public class AuthTokenCookies {
+
+    public static final String ACCESS_TOKEN_COOKIE = "ACCESS_TOKEN";
+    public static final String REFRESH_TOKEN_COOKIE = "REFRESH_TOKEN";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+    private final boolean secure;
+
+    public AuthTokenCookies(
+            @Value("${auth.token.access-ttl:15m}") Duration accessTokenTtl,
+            @Value("${auth.token.refresh-ttl:14d}") Duration refreshTokenTtl,
+            @Value("${auth.token.cookie-secure:false}") boolean secure
+    ) {
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
+        this.secure = secure;
+    }
+
+    public void writeAccessToken(HttpServletResponse response, String accessToken) {
+        addCookie(response, ACCESS_TOKEN_COOKIE, accessToken, accessTokenTtl);
+    }
+
+    public void writeRefreshToken(HttpServletResponse response, String refreshToken) {
+        addCookie(response, REFRESH_TOKEN_COOKIE, refreshToken, refreshTokenTtl);
+    }
+
+    public void clear(HttpServletResponse response) {
+        addCookie(response, ACCESS_TOKEN_COOKIE, "", Duration.ZERO);
+        addCookie(response, REFRESH_TOKEN_COOKIE, "", Duration.ZERO);
+    }
+
+    public String resolveAccessToken(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            return authorization.substring(BEARER_PREFIX.length()).trim();
+        }
+        return readCookie(request, ACCESS_TOKEN_COOKIE);
+    }
+
+    public String resolveRefreshToken(HttpServletRequest request) {
+        return readCookie(request, REFRESH_TOKEN_COOKIE);
+    }
+
+    private void addCookie(HttpServletResponse response, String name, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(name, value)
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private String readCookie(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName()) && StringUtils.hasText(cookie.getValue())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+}
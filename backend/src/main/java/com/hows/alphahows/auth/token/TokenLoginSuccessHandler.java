@@ -0,0 +1,52 @@
+package com.hows.alphahows.auth.token;
+
+import com.hows.alphahows.auth.dto.IssuedTokens;
+import com.hows.alphahows.auth.service.TokenService;
+import com.hows.alphahows.auth.util.AuthPrincipalUtils;
+import com.hows.alphahows.user.entity.User;
+import com.hows.alphahows.user.repository.UserRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * OAuth2 로그인 성공 시 세션 대신 토큰 쿠키를 발급하고 메인으로 이동합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenLoginSuccessHandler implements AuthenticationSuccessHandler {
+
+    private final UserRepository userRepository;
+    private final TokenService tokenService;
+    private final AuthTokenCookies authTokenCookies;
+
+    @Override
+    public void onAuthenticationSuccess(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Authentication authentication
+    ) throws IOException {
+        String email = AuthPrincipalUtils.resolveEmail(authentication);
+        // 직전 소셜 업서트에서 2차 캐시에 올라간 사용자를 natural id로 조회
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new OAuth2AuthenticationException(new OAuth2Error("user_not_found")));
+
+        IssuedTokens tokens = tokenService.issue(user);
+        authTokenCookies.writeAccessToken(response, tokens.accessToken());
+        authTokenCookies.writeRefreshToken(response, tokens.refreshToken());
+
+        // OAuth2 인가 요청 보관용으로만 쓰인 세션은 로그인 후 정리
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+        response.sendRedirect("/");
+    }
+}
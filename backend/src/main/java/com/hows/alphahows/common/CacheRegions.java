@@ -0,0 +1,16 @@
+package com.hows.alphahows.common;
+
+/**
+ * Hibernate 2차 캐시 리전 이름 (설정은 SecondLevelCacheConfig)
+ */
+public final class CacheRegions {
+
+    public static final String USER = "user";
+    public static final String USER_NATURAL_ID = "user-natural-id";
+    public static final String TAG = "tag";
+    public static final String TAG_NATURAL_ID = "tag-natural-id";
+    public static final String PROFILE = "profile";
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,17 @@
+package com.hows.alphahows.common;
+
+/**
+ * 대량 INSERT 엔티티용 pooled 테이블 id 할당 설정.
+ * IDENTITY는 INSERT 직후 키를 받아야 해서 JDBC 배치가 꺼지므로,
+ * id를 ALLOCATION_SIZE 단위로 미리 받아 두고 배치 INSERT를 사용합니다.
+ */
+public final class IdAllocation {
+
+    public static final String TABLE = "id_allocators";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdAllocation() {
+    }
+}
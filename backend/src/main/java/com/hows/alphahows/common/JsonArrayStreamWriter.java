@@ -0,0 +1,56 @@
+package com.hows.alphahows.common;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import org.springframework.http.MediaType;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 목록을 메모리에 모으지 않고 JSON 배열로 응답에 바로 쓴다.
+ * 첫 요소를 받을 때 응답을 연다 — 그 전에 난 예외(인증 실패 등)는 일반 오류 응답으로 처리된다.
+ * 요소마다 flush하지 않고 출력 버퍼가 찰 때 chunk로 내보낸다. 요소는 실제 타입 기준으로 직렬화한다.
+ */
+public class JsonArrayStreamWriter<T> implements Consumer<T> {
+
+    private final HttpServletResponse response;
+    private final ObjectWriter writer;
+    private JsonGenerator generator;
+
+    public JsonArrayStreamWriter(HttpServletResponse response, JsonMapper jsonMapper) {
+        this.response = response;
+        this.writer = jsonMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void accept(T item) {
+        writer.writeValue(open(), item);
+    }
+
+    /**
+     * 배열을 닫고 응답을 마무리한다. 요소가 하나도 없었으면 빈 배열을 쓴다.
+     */
+    public void finish() {
+        JsonGenerator current = open();
+        current.writeEndArray();
+        current.close();
+    }
+
+    private JsonGenerator open() {
+        if (generator == null) {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            try {
+                generator = writer.createGenerator(response.getOutputStream());
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to open response stream", e);
+            }
+            generator.writeStartArray();
+        }
+        return generator;
+    }
+}
@@ -0,0 +1,32 @@
+package com.hows.alphahows.common;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션을 replica 대신 primary로 보냅니다.
+ * 읽은 값이 캐시에 오래 남는 조회(캐시 로더)에 씁니다. replica에서 채우면 복제 지연만큼 옛 값이 TTL 동안 고정됩니다.
+ * 커넥션은 첫 쿼리 시점에 라우팅되므로 트랜잭션은 이 블록 안에서 시작해야 합니다. replica가 없으면 아무 효과가 없습니다.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        Boolean previous = FORCED.get();
+        FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCED.remove();
+            }
+        }
+    }
+
+    public static boolean isForced() {
+        return FORCED.get() != null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.hows.alphahows.community.controller;
+
+import com.hows.alphahows.community.dto.CommentCreateRequest;
+import com.hows.alphahows.community.dto.CommentPageResponse;
+import com.hows.alphahows.community.dto.CommentResponse;
+import com.hows.alphahows.community.service.CommentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/posts/{postId}/comments")
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+
+    @GetMapping
+    public CommentPageResponse getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return commentService.getComments(postId, cursor, size);
+    }
+
+    @PostMapping
+    public CommentResponse createComment(
+            @PathVariable Long postId,
+            @Valid @RequestBody CommentCreateRequest request,
+            Authentication authentication
+    ) {
+        return commentService.createComment(postId, request, authentication);
+    }
+
+    @DeleteMapping("/{commentId}")
+    public ResponseEntity<Void> deleteComment(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            Authentication authentication
+    ) {
+        commentService.deleteComment(postId, commentId, authentication);
+        return ResponseEntity.noContent().build();
+    }
+}
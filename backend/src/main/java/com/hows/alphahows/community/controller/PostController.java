@@ -0,0 +1,66 @@
+package com.hows.alphahows.community.controller;
+
+import com.hows.alphahows.community.dto.PostCreateRequest;
+import com.hows.alphahows.community.dto.PostDetailResponse;
+import com.hows.alphahows.community.dto.PostFeedResponse;
+import com.hows.alphahows.community.dto.PostTagsUpdateRequest;
+import com.hows.alphahows.community.dto.PostUpdateRequest;
+import com.hows.alphahows.community.service.PostFeedService;
+import com.hows.alphahows.community.service.PostService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/posts")
+@RequiredArgsConstructor
+public class PostController {
+
+    private final PostFeedService postFeedService;
+    private final PostService postService;
+
+    @GetMapping
+    public PostFeedResponse getFeed(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String tag
+    ) {
+        return postFeedService.getFeed(cursor, size, tag);
+    }
+
+    @PostMapping
+    public PostDetailResponse createPost(@Valid @RequestBody PostCreateRequest request, Authentication authentication) {
+        return postService.createPost(request, authentication);
+    }
+
+    @GetMapping("/{postId}")
+    public PostDetailResponse getPost(@PathVariable Long postId) {
+        return postService.getPost(postId);
+    }
+
+    @PutMapping("/{postId}")
+    public PostDetailResponse updatePost(
+            @PathVariable Long postId,
+            @Valid @RequestBody PostUpdateRequest request,
+            Authentication authentication
+    ) {
+        return postService.updatePost(postId, request, authentication);
+    }
+
+    @PutMapping("/{postId}/tags")
+    public PostDetailResponse updateTags(
+            @PathVariable Long postId,
+            @Valid @RequestBody PostTagsUpdateRequest request,
+            Authentication authentication
+    ) {
+        return postService.updateTags(postId, request, authentication);
+    }
+}
@@ -0,0 +1,23 @@
+package com.hows.alphahows.community.controller;
+
+import com.hows.alphahows.community.dto.TagCountResponse;
+import com.hows.alphahows.community.service.TagService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagService tagService;
+
+    @GetMapping("/cloud")
+    public List<TagCountResponse> getTagCloud(@RequestParam(required = false) Integer size) {
+        return tagService.getTagCloud(size);
+    }
+}
@@ -0,0 +1,8 @@
+package com.hows.alphahows.community.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record CommentCreateRequest(
+        @NotBlank String content
+) {
+}
@@ -0,0 +1,9 @@
+package com.hows.alphahows.community.dto;
+
+public record CommentNotificationMessage(
+        String type,
+        Long postId,
+        Long commentId,
+        CommentResponse comment
+) {
+}
@@ -0,0 +1,22 @@
+package com.hows.alphahows.community.dto;
+
+import com.hows.alphahows.community.entity.Comment;
+import java.time.LocalDateTime;
+
+public record CommentResponse(
+        Long commentId,
+        Long postId,
+        String authorNickname,
+        String content,
+        LocalDateTime createdAt
+) {
+    public static CommentResponse from(Comment comment) {
+        return new CommentResponse(
+                comment.getId(),
+                comment.getPost().getId(),
+                comment.getAuthor().getNickname(),
+                comment.getContent(),
+                comment.getCreatedAt()
+        );
+    }
+}
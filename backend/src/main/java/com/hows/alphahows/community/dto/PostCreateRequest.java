@@ -0,0 +1,12 @@
+package com.hows.alphahows.community.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record PostCreateRequest(
+        @NotBlank @Size(max = 255) String title,
+        @NotBlank String content,
+        @Size(max = 10) List<String> tags
+) {
+}
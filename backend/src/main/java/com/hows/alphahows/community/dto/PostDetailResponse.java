@@ -0,0 +1,42 @@
+package com.hows.alphahows.community.dto;
+
+import com.hows.alphahows.community.entity.Post;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PostDetailResponse(
+        Long postId,
+        Long authorUserId,
+        String authorNickname,
+        String title,
+        String content,
+        long commentCount,
+        List<String> tags,
+        List<CommentResponse> comments,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static PostDetailResponse from(Post post, List<String> tags, List<CommentResponse> comments) {
+        return new PostDetailResponse(
+                post.getId(),
+                post.getAuthor().getId(),
+                post.getAuthor().getNickname(),
+                post.getTitle(),
+                post.getContent(),
+                post.getCommentCount(),
+                tags,
+                comments,
+                post.getCreatedAt(),
+                post.getUpdatedAt()
+        );
+    }
+
+    // 캐시 가중치: 본문과 댓글 길이(문자 수) 기준
+    public int weight() {
+        int weight = title.length() + (content == null ? 0 : content.length());
+        for (CommentResponse comment : comments) {
+            weight += comment.content().length();
+        }
+        return weight;
+    }
+}
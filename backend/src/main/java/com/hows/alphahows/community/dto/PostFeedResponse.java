@@ -0,0 +1,9 @@
+package com.hows.alphahows.community.dto;
+
+import java.util.List;
+
+public record PostFeedResponse(
+        List<PostSummaryResponse> posts,
+        Long nextCursor
+) {
+}
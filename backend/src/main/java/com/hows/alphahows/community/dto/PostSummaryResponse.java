@@ -0,0 +1,26 @@
+package com.hows.alphahows.community.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PostSummaryResponse(
+        Long postId,
+        String authorNickname,
+        String title,
+        String excerpt,
+        long commentCount,
+        List<String> tags,
+        LocalDateTime createdAt
+) {
+    public static PostSummaryResponse from(PostSummaryRow row, List<String> tags) {
+        return new PostSummaryResponse(
+                row.postId(),
+                row.authorNickname(),
+                row.title(),
+                row.excerpt(),
+                row.commentCount(),
+                tags,
+                row.createdAt()
+        );
+    }
+}
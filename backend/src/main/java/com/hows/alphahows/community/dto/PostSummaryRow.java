@@ -0,0 +1,13 @@
+package com.hows.alphahows.community.dto;
+
+import java.time.LocalDateTime;
+
+public record PostSummaryRow(
+        Long postId,
+        String authorNickname,
+        String title,
+        String excerpt,
+        long commentCount,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.hows.alphahows.community.dto;
+
+public record PostTagName(
+        Long postId,
+        String name
+) {
+}
@@ -0,0 +1,10 @@
+package com.hows.alphahows.community.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record PostTagsUpdateRequest(
+        @NotNull @Size(max = 10) List<String> tags
+) {
+}
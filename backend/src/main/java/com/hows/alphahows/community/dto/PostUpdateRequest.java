@@ -0,0 +1,10 @@
+package com.hows.alphahows.community.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record PostUpdateRequest(
+        @NotBlank @Size(max = 255) String title,
+        @NotBlank String content
+) {
+}
@@ -41,4 +41,13 @@ public class Post extends BaseTimeEntity {
     @Lob
     @Column(name = "content", nullable = false, columnDefinition = "MEDIUMTEXT")
     private String content;
+
+    @Builder.Default
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount = 0;
+
+    public void update(String title, String content) {
+        this.title = title;
+        this.content = content;
+    }
 }
@@ -3,6 +3,7 @@ package com.hows.alphahows.community.entity;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapsId;
@@ -18,7 +19,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "post_tags")
+@Table(
+        name = "post_tags",
+        indexes = @Index(name = "idx_post_tags_tag_post", columnList = "tag_id, post_id")
+)
 public class PostTag {
 
     @EmbeddedId
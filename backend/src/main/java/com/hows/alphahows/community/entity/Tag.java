@@ -1,5 +1,6 @@
 package com.hows.alphahows.community.entity;
 
+import com.hows.alphahows.common.CacheRegions;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -11,12 +12,23 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
+/**
+ * 태그 (이름이 natural id, 2차 캐시 대상)
+ * tags.post_count 카운터는 게시글 태그 변경마다 바뀌므로 이 엔티티에 매핑하지 않고
+ * TagRepositoryCustom에서 JDBC로 읽고 갱신합니다. 그래서 카운터 갱신이 Tag 캐시 리전을 비우지 않습니다.
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TAG)
+@NaturalIdCache(region = CacheRegions.TAG_NATURAL_ID)
 @Table(name = "tags")
 public class Tag {
 
@@ -25,6 +37,7 @@ public class Tag {
     @Column(name = "tag_id")
     private Long id;
 
+    @NaturalId
     @Column(name = "name", nullable = false, unique = true, length = 50)
     private String name;
 }
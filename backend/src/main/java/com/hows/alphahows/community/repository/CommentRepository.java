@@ -0,0 +1,22 @@
+package com.hows.alphahows.community.repository;
+
+import com.hows.alphahows.community.entity.Comment;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    Optional<Comment> findByIdAndPostId(Long id, Long postId);
+
+    // (post_id, id) 인덱스를 타는 keyset 페이지 + 작성자 fetch join
+    @Query("""
+            select c from Comment c join fetch c.author
+            where c.post.id = :postId and c.id > :cursor
+            order by c.id asc
+            """)
+    List<Comment> findPageWithAuthor(@Param("postId") Long postId, @Param("cursor") long cursor, Limit limit);
+}
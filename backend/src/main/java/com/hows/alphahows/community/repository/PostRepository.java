@@ -0,0 +1,57 @@
+package com.hows.alphahows.community.repository;
+
+import com.hows.alphahows.community.dto.PostSummaryRow;
+import com.hows.alphahows.community.entity.Post;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface PostRepository extends JpaRepository<Post, Long> {
+
+    // content(MEDIUMTEXT)는 excerpt 길이만큼만 잘라서 읽는다
+    @Query("""
+            select new com.hows.alphahows.community.dto.PostSummaryRow(
+                p.id, a.nickname, p.title, substring(cast(p.content as String), 1, 200),
+                p.commentCount, p.createdAt)
+            from Post p join p.author a
+            where p.id < :cursor
+            order by p.id desc
+            """)
+    List<PostSummaryRow> findFeed(@Param("cursor") long cursor, Limit limit);
+
+    @Query("""
+            select new com.hows.alphahows.community.dto.PostSummaryRow(
+                p.id, a.nickname, p.title, substring(cast(p.content as String), 1, 200),
+                p.commentCount, p.createdAt)
+            from PostTag pt join pt.post p join p.author a
+            where pt.tag.name = :tag and pt.id.postId < :cursor
+            order by pt.id.postId desc
+            """)
+    List<PostSummaryRow> findFeedByTag(@Param("tag") String tag, @Param("cursor") long cursor, Limit limit);
+
+    @Query("select p from Post p join fetch p.author where p.id = :postId")
+    Optional<Post> findWithAuthorById(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :postId")
+    int adjustCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Query("select coalesce(max(p.id), 0) from Post p")
+    long findMaxId();
+
+    // 집계값과 다른 행만 갱신해 불필요한 row lock을 피한다
+    @Transactional
+    @Modifying
+    @Query("""
+            update Post p
+            set p.commentCount = (select count(c) from Comment c where c.post = p)
+            where p.id > :fromId and p.id <= :toId
+              and p.commentCount <> (select count(c) from Comment c where c.post = p)
+            """)
+    int reconcileCommentCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+}
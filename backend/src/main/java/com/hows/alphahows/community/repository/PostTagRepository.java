@@ -0,0 +1,24 @@
+package com.hows.alphahows.community.repository;
+
+import com.hows.alphahows.community.dto.PostTagName;
+import com.hows.alphahows.community.entity.PostTag;
+import com.hows.alphahows.community.entity.PostTagId;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostTagRepository extends JpaRepository<PostTag, PostTagId>, PostTagRepositoryCustom {
+
+    @Query("""
+            select new com.hows.alphahows.community.dto.PostTagName(pt.id.postId, t.name)
+            from PostTag pt join pt.tag t
+            where pt.id.postId in :postIds
+            order by t.name
+            """)
+    List<PostTagName> findTagNamesByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @Query("select pt.id.tagId from PostTag pt where pt.id.postId = :postId")
+    List<Long> findTagIdsByPostId(@Param("postId") Long postId);
+}
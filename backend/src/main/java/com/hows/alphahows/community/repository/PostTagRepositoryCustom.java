@@ -0,0 +1,18 @@
+package com.hows.alphahows.community.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostTagRepositoryCustom {
+
+    /**
+     * 없는 (post, tag) 행만 추가하고, 이 호출로 실제 추가된 태그 id를 돌려줍니다.
+     * 동시에 같은 태그를 추가한 다른 트랜잭션이 먼저 넣은 행은 결과에서 빠집니다.
+     */
+    List<Long> insertIgnore(Long postId, Collection<Long> tagIds);
+
+    /**
+     * (post, tag) 행을 삭제하고, 이 호출로 실제 삭제된 태그 id를 돌려줍니다.
+     */
+    List<Long> deleteTags(Long postId, Collection<Long> tagIds);
+}
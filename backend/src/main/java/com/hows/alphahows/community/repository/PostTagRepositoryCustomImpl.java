@@ -0,0 +1,48 @@
+package com.hows.alphahows.community.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class PostTagRepositoryCustomImpl implements PostTagRepositoryCustom {
+
+    private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO post_tags (post_id, tag_id) VALUES (?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM post_tags WHERE post_id = ? AND tag_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 운영의 rewriteBatchedStatements=true는 INSERT 배치를 다중 VALUES 한 문장으로 바꾸고
+    // 행별 결과를 모두 SUCCESS_NO_INFO로 돌려주므로, 어떤 행이 IGNORE됐는지 알 수 있게 한 행씩 실행
+    // (게시글 하나의 태그 변경분이라 문장 수는 작음)
+    @Override
+    public List<Long> insertIgnore(Long postId, Collection<Long> tagIds) {
+        List<Long> inserted = new ArrayList<>();
+        for (Long tagId : tagIds) {
+            if (jdbcTemplate.update(INSERT_IGNORE_SQL, postId, tagId) > 0) {
+                inserted.add(tagId);
+            }
+        }
+        return inserted;
+    }
+
+    // DELETE 배치는 다중 문장으로 묶여도 문장별 삭제 건수가 그대로 돌아옴
+    @Override
+    public List<Long> deleteTags(Long postId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = List.copyOf(tagIds);
+        List<Object[]> args = ids.stream().map(tagId -> new Object[]{postId, tagId}).toList();
+        int[] counts = jdbcTemplate.batchUpdate(DELETE_SQL, args);
+        List<Long> deleted = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                deleted.add(ids.get(i));
+            }
+        }
+        return deleted;
+    }
+}
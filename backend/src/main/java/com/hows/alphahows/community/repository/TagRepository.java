@@ -0,0 +1,11 @@
+package com.hows.alphahows.community.repository;
+
+import com.hows.alphahows.community.entity.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface TagRepository extends JpaRepository<Tag, Long>, TagRepositoryCustom {
+
+    @Query("select coalesce(max(t.id), 0) from Tag t")
+    long findMaxId();
+}
@@ -0,0 +1,35 @@
+package com.hows.alphahows.community.repository;
+
+import com.hows.alphahows.community.dto.TagCountResponse;
+import com.hows.alphahows.community.entity.Tag;
+import java.util.Collection;
+import java.util.List;
+
+public interface TagRepositoryCustom {
+
+    /**
+     * 존재하지 않는 태그만 한 번의 배치로 추가합니다.
+     * 동시에 같은 이름이 들어와도 unique 제약 충돌은 무시됩니다.
+     */
+    void insertIgnoreNames(Collection<String> names);
+
+    /**
+     * 이름(natural id)으로 일괄 조회합니다. 2차 캐시에 있는 태그는 DB를 거치지 않습니다.
+     */
+    List<Tag> findByNameIn(Collection<String> names);
+
+    /**
+     * post_count가 0보다 큰 태그를 많은 순으로 limit개 조회합니다.
+     */
+    List<TagCountResponse> findTopByPostCount(int limit);
+
+    /**
+     * 태그별 post_count에 delta를 더합니다.
+     */
+    void adjustPostCount(Collection<Long> tagIds, long delta);
+
+    /**
+     * (fromId, toId] 구간 태그의 post_count를 post_tags 실제 개수로 맞추고, 고친 행 수를 돌려줍니다.
+     */
+    int reconcilePostCounts(long fromId, long toId);
+}
@@ -0,0 +1,77 @@
+package com.hows.alphahows.community.repository;
+
+import com.hows.alphahows.community.dto.TagCountResponse;
+import com.hows.alphahows.community.entity.Tag;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+public class TagRepositoryCustomImpl implements TagRepositoryCustom {
+
+    private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO tags (name, post_count) VALUES (?, 0)";
+    private static final String TOP_BY_POST_COUNT_SQL =
+            "SELECT name, post_count FROM tags WHERE post_count > 0 ORDER BY post_count DESC LIMIT ?";
+    private static final String ADJUST_POST_COUNT_SQL = "UPDATE tags SET post_count = post_count + ? WHERE tag_id = ?";
+    private static final String RECONCILE_POST_COUNTS_SQL = """
+            UPDATE tags t
+            SET t.post_count = (SELECT COUNT(*) FROM post_tags pt WHERE pt.tag_id = t.tag_id)
+            WHERE t.tag_id > ? AND t.tag_id <= ?
+              AND t.post_count <> (SELECT COUNT(*) FROM post_tags pt WHERE pt.tag_id = t.tag_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertIgnoreNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = names.stream().map(name -> new Object[]{name}).toList();
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, args);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Tag> findByNameIn(Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.unwrap(Session.class)
+                .byMultipleNaturalId(Tag.class)
+                .multiLoad(List.copyOf(names)).stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<TagCountResponse> findTopByPostCount(int limit) {
+        return jdbcTemplate.query(TOP_BY_POST_COUNT_SQL,
+                (rs, rowNum) -> new TagCountResponse(rs.getString("name"), rs.getLong("post_count")),
+                limit);
+    }
+
+    // JPQL 벌크 UPDATE는 Tag 엔티티·natural-id 리전 전체를 비우므로 Hibernate를 거치지 않고 JDBC로 갱신
+    @Override
+    public void adjustPostCount(Collection<Long> tagIds, long delta) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = tagIds.stream().map(tagId -> new Object[]{delta, tagId}).toList();
+        jdbcTemplate.batchUpdate(ADJUST_POST_COUNT_SQL, args);
+    }
+
+    @Override
+    public int reconcilePostCounts(long fromId, long toId) {
+        return jdbcTemplate.update(RECONCILE_POST_COUNTS_SQL, fromId, toId);
+    }
+}
@@ -0,0 +1,52 @@
+package com.hows.alphahows.community.service;
+
+import com.hows.alphahows.community.dto.CommentNotificationMessage;
+import com.hows.alphahows.community.dto.CommentResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@RequiredArgsConstructor
+public class CommentNotificationService {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public void notifyCommentCreated(CommentResponse comment) {
+        sendAfterCommit(new CommentNotificationMessage(
+                "COMMENT_CREATED",
+                comment.postId(),
+                comment.commentId(),
+                comment
+        ));
+    }
+
+    public void notifyCommentDeleted(Long postId, Long commentId) {
+        sendAfterCommit(new CommentNotificationMessage(
+                "COMMENT_DELETED",
+                postId,
+                commentId,
+                null
+        ));
+    }
+
+    // 롤백된 댓글이 구독자에게 전달되지 않도록 커밋 이후에 발행
+    private void sendAfterCommit(CommentNotificationMessage payload) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(payload);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(payload);
+            }
+        });
+    }
+
+    private void send(CommentNotificationMessage payload) {
+        messagingTemplate.convertAndSend("/topic/posts/" + payload.postId(), payload);
+    }
+}
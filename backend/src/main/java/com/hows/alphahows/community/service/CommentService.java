@@ -0,0 +1,88 @@
+package com.hows.alphahows.community.service;
+
+import com.hows.alphahows.auth.principal.AuthUser;
+import com.hows.alphahows.auth.service.CurrentUserResolver;
+import com.hows.alphahows.community.dto.CommentCreateRequest;
+import com.hows.alphahows.community.dto.CommentPageResponse;
+import com.hows.alphahows.community.dto.CommentResponse;
+import com.hows.alphahows.community.entity.Comment;
+import com.hows.alphahows.community.entity.Post;
+import com.hows.alphahows.community.repository.CommentRepository;
+import com.hows.alphahows.community.repository.PostRepository;
+import com.hows.alphahows.user.entity.User;
+import com.hows.alphahows.user.repository.UserRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CurrentUserResolver currentUserResolver;
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostDetailCache postDetailCache;
+    private final CommentNotificationService commentNotificationService;
+
+    @Transactional(readOnly = true)
+    public CommentPageResponse getComments(Long postId, Long cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        long after = cursor == null ? 0L : cursor;
+
+        List<Comment> rows = commentRepository.findPageWithAuthor(postId, after, Limit.of(pageSize + 1));
+        if (rows.isEmpty() && !postRepository.existsById(postId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found");
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Comment> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+        return new CommentPageResponse(page.stream().map(CommentResponse::from).toList(), nextCursor);
+    }
+
+    @Transactional
+    public CommentResponse createComment(Long postId, CommentCreateRequest request, Authentication authentication) {
+        // 연관관계 FK만 필요하므로 프록시 참조로 충분 (작성자 정보는 응답 생성 시 PK로 로딩)
+        User author = userRepository.getReferenceById(currentUserResolver.resolve(authentication).getUserId());
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
+
+        Comment comment = commentRepository.save(Comment.builder()
+                .post(post)
+                .author(author)
+                .content(request.content())
+                .build());
+        postRepository.adjustCommentCount(postId, 1);
+        postDetailCache.evict(postId);
+
+        CommentResponse response = CommentResponse.from(comment);
+        commentNotificationService.notifyCommentCreated(response);
+        return response;
+    }
+
+    @Transactional
+    public void deleteComment(Long postId, Long commentId, Authentication authentication) {
+        AuthUser requester = currentUserResolver.resolve(authentication);
+        Comment comment = commentRepository.findByIdAndPostId(commentId, postId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Comment not found"));
+
+        if (!requester.isAdmin() && !comment.getAuthor().getId().equals(requester.getUserId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only author can delete comment");
+        }
+
+        commentRepository.delete(comment);
+        postRepository.adjustCommentCount(postId, -1);
+        postDetailCache.evict(postId);
+        commentNotificationService.notifyCommentDeleted(postId, commentId);
+    }
+}
@@ -0,0 +1,52 @@
+package com.hows.alphahows.community.service;
+
+import com.hows.alphahows.community.repository.PostRepository;
+import com.hows.alphahows.community.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * posts.comment_count / tags.post_count 비정규화 카운터의 드리프트를 보정합니다.
+ * id 구간 단위로 나눠 갱신하므로 한 번에 긴 락을 잡지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityCounterReconciler {
+
+    private final PostRepository postRepository;
+    private final TagRepository tagRepository;
+
+    @Value("${community.counters.reconcile-chunk-size:1000}")
+    private long chunkSize;
+
+    @Scheduled(cron = "${community.counters.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        int fixedPosts = reconcilePosts();
+        int fixedTags = reconcileTags();
+        if (fixedPosts > 0 || fixedTags > 0) {
+            log.info("Reconciled community counters: posts={}, tags={}", fixedPosts, fixedTags);
+        }
+    }
+
+    public int reconcilePosts() {
+        long maxId = postRepository.findMaxId();
+        int fixed = 0;
+        for (long from = 0; from < maxId; from += chunkSize) {
+            fixed += postRepository.reconcileCommentCounts(from, from + chunkSize);
+        }
+        return fixed;
+    }
+
+    public int reconcileTags() {
+        long maxId = tagRepository.findMaxId();
+        int fixed = 0;
+        for (long from = 0; from < maxId; from += chunkSize) {
+            fixed += tagRepository.reconcilePostCounts(from, from + chunkSize);
+        }
+        return fixed;
+    }
+}
@@ -0,0 +1,73 @@
+package com.hows.alphahows.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hows.alphahows.common.PrimaryReads;
+import com.hows.alphahows.community.dto.PostDetailResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 상세 DTO read-through 캐시
+ * 본문 길이 기준으로 가중치를 매겨 큰 글 몇 개가 캐시를 독점하지 않도록 합니다.
+ */
+@Component
+public class PostDetailCache {
+
+    private static final String CACHE_NAME = "community.post.detail";
+
+    private final Cache<Long, PostDetailResponse> cache;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public PostDetailCache(
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${community.post-cache.max-weight:8000000}") long maxWeight,
+            @Value("${community.post-cache.ttl:10m}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Long postId, PostDetailResponse detail) -> detail.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 캐시 적중 시에는 트랜잭션/커넥션 없이 반환하고, loader만 primary의 읽기 전용 트랜잭션에서 실행합니다.
+     * (replica에서 채우면 복제 지연 중의 옛 값이 TTL 동안 남음)
+     */
+    public PostDetailResponse get(Long postId, Function<Long, PostDetailResponse> loader) {
+        return cache.get(postId, key -> PrimaryReads.call(
+                () -> readOnlyTransaction.execute(status -> loader.apply(key))));
+    }
+
+    /**
+     * 변경 트랜잭션 안에서 호출합니다. 지금 지우고, 커밋 전에 다른 요청이 옛 값을 다시 적재할 수 있으므로 커밋 후에 한 번 더 지웁니다.
+     * 같은 키의 적재가 진행 중이면 Caffeine의 invalidate는 그 적재가 끝날 때까지 기다렸다가 결과를 지우므로,
+     * 커밋 전에 시작된 적재가 커밋 후 삭제보다 늦게 옛 값을 남기는 경우는 없습니다.
+     * 캐시는 노드 로컬이라 다른 노드의 항목은 TTL까지 남을 수 있습니다.
+     */
+    public void evict(Long postId) {
+        cache.invalidate(postId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(postId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.hows.alphahows.community.service;
+
+import com.hows.alphahows.community.dto.PostFeedResponse;
+import com.hows.alphahows.community.dto.PostSummaryResponse;
+import com.hows.alphahows.community.dto.PostSummaryRow;
+import com.hows.alphahows.community.dto.PostTagName;
+import com.hows.alphahows.community.repository.PostRepository;
+import com.hows.alphahows.community.repository.PostTagRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+@Service
+@RequiredArgsConstructor
+public class PostFeedService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
+
+    @Transactional(readOnly = true)
+    public PostFeedResponse getFeed(Long cursor, Integer size, String tag) {
+        int pageSize = normalizePageSize(size);
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<PostSummaryRow> rows = StringUtils.hasText(tag)
+                ? postRepository.findFeedByTag(tag.trim(), before, limit)
+                : postRepository.findFeed(before, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PostSummaryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Map<Long, List<String>> tagsByPostId = loadTags(page);
+
+        List<PostSummaryResponse> posts = page.stream()
+                .map(row -> PostSummaryResponse.from(
+                        row,
+                        tagsByPostId.getOrDefault(row.postId(), Collections.emptyList())))
+                .toList();
+        Long nextCursor = hasNext ? page.get(page.size() - 1).postId() : null;
+        return new PostFeedResponse(posts, nextCursor);
+    }
+
+    private Map<Long, List<String>> loadTags(List<PostSummaryRow> rows) {
+        if (rows.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> postIds = rows.stream().map(PostSummaryRow::postId).toList();
+        Map<Long, List<String>> tagsByPostId = new HashMap<>();
+        for (PostTagName tagName : postTagRepository.findTagNamesByPostIds(postIds)) {
+            tagsByPostId.computeIfAbsent(tagName.postId(), id -> new ArrayList<>()).add(tagName.name());
+        }
+        return tagsByPostId;
+    }
+
+    private int normalizePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
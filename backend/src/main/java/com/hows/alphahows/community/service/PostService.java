@@ -0,0 +1,102 @@
+package com.hows.alphahows.community.service;
+
+import com.hows.alphahows.auth.principal.AuthUser;
+import com.hows.alphahows.auth.service.CurrentUserResolver;
+import com.hows.alphahows.community.dto.CommentResponse;
+import com.hows.alphahows.community.dto.PostCreateRequest;
+import com.hows.alphahows.community.dto.PostDetailResponse;
+import com.hows.alphahows.community.dto.PostTagName;
+import com.hows.alphahows.community.dto.PostTagsUpdateRequest;
+import com.hows.alphahows.community.dto.PostUpdateRequest;
+import com.hows.alphahows.community.entity.Post;
+import com.hows.alphahows.community.repository.CommentRepository;
+import com.hows.alphahows.community.repository.PostRepository;
+import com.hows.alphahows.community.repository.PostTagRepository;
+import com.hows.alphahows.user.entity.User;
+import com.hows.alphahows.user.repository.UserRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@RequiredArgsConstructor
+public class PostService {
+
+    private static final int DETAIL_COMMENT_LIMIT = 20;
+
+    private final CurrentUserResolver currentUserResolver;
+    private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final TagService tagService;
+    private final PostDetailCache postDetailCache;
+
+    public PostDetailResponse getPost(Long postId) {
+        return postDetailCache.get(postId, this::loadDetailById);
+    }
+
+    @Transactional
+    public PostDetailResponse createPost(PostCreateRequest request, Authentication authentication) {
+        // 연관관계 FK만 필요하므로 프록시 참조로 충분 (작성자 정보는 응답 생성 시 PK로 로딩)
+        User author = userRepository.getReferenceById(currentUserResolver.resolve(authentication).getUserId());
+        Post post = postRepository.save(Post.builder()
+                .author(author)
+                .title(request.title())
+                .content(request.content())
+                .build());
+        List<String> tags = request.tags() == null ? List.of() : tagService.replaceTags(post.getId(), request.tags());
+        return PostDetailResponse.from(post, tags, List.of());
+    }
+
+    @Transactional
+    public PostDetailResponse updatePost(Long postId, PostUpdateRequest request, Authentication authentication) {
+        AuthUser requester = currentUserResolver.resolve(authentication);
+        Post post = findWritablePost(postId, requester);
+
+        post.update(request.title(), request.content());
+        postDetailCache.evict(postId);
+
+        return loadDetail(post);
+    }
+
+    @Transactional
+    public PostDetailResponse updateTags(Long postId, PostTagsUpdateRequest request, Authentication authentication) {
+        AuthUser requester = currentUserResolver.resolve(authentication);
+        Post post = findWritablePost(postId, requester);
+
+        tagService.replaceTags(postId, request.tags());
+        return loadDetail(post);
+    }
+
+    private Post findWritablePost(Long postId, AuthUser requester) {
+        Post post = postRepository.findWithAuthorById(postId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
+        if (!requester.isAdmin() && !post.getAuthor().getId().equals(requester.getUserId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only author can edit post");
+        }
+        return post;
+    }
+
+    private PostDetailResponse loadDetailById(Long postId) {
+        Post post = postRepository.findWithAuthorById(postId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
+        return loadDetail(post);
+    }
+
+    private PostDetailResponse loadDetail(Post post) {
+        List<String> tags = postTagRepository.findTagNamesByPostIds(List.of(post.getId())).stream()
+                .map(PostTagName::name)
+                .toList();
+        List<CommentResponse> comments = commentRepository
+                .findPageWithAuthor(post.getId(), 0L, Limit.of(DETAIL_COMMENT_LIMIT)).stream()
+                .map(CommentResponse::from)
+                .toList();
+        return PostDetailResponse.from(post, tags, comments);
+    }
+}
@@ -0,0 +1,99 @@
+package com.hows.alphahows.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hows.alphahows.community.entity.Tag;
+import com.hows.alphahows.community.repository.TagRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 태그 이름 → id 일괄 변환기
+ * 캐시에 없는 이름만 IN 쿼리 한 번으로 조회하고, 없는 태그는 배치 INSERT IGNORE 후 재조회합니다.
+ */
+@Component
+public class TagResolver {
+
+    static final int MAX_TAG_NAME_LENGTH = 50;
+
+    private final TagRepository tagRepository;
+    private final Cache<String, Long> tagIdCache;
+
+    public TagResolver(
+            TagRepository tagRepository,
+            MeterRegistry meterRegistry,
+            @Value("${community.tag-cache.max-size:10000}") long maxSize,
+            @Value("${community.tag-cache.ttl:1h}") Duration ttl
+    ) {
+        this.tagRepository = tagRepository;
+        this.tagIdCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tagIdCache, "community.tag.id");
+    }
+
+    public Set<String> normalize(Collection<String> names) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (names == null) {
+            return normalized;
+        }
+        for (String name : names) {
+            if (!StringUtils.hasText(name)) {
+                continue;
+            }
+            String value = name.trim().toLowerCase(Locale.ROOT);
+            if (value.length() > MAX_TAG_NAME_LENGTH) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Tag name is too long: " + value);
+            }
+            normalized.add(value);
+        }
+        return normalized;
+    }
+
+    @Transactional
+    public Map<String, Long> resolveIds(Set<String> names) {
+        Map<String, Long> resolved = new LinkedHashMap<>(tagIdCache.getAllPresent(names));
+        if (resolved.size() == names.size()) {
+            return resolved;
+        }
+
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            if (!resolved.containsKey(name)) {
+                missing.add(name);
+            }
+        }
+
+        List<Tag> found = tagRepository.findByNameIn(missing);
+        if (found.size() < missing.size()) {
+            Set<String> foundNames = new LinkedHashSet<>();
+            found.forEach(tag -> foundNames.add(tag.getName()));
+            List<String> toInsert = missing.stream().filter(name -> !foundNames.contains(name)).toList();
+            tagRepository.insertIgnoreNames(toInsert);
+            found = tagRepository.findByNameIn(missing);
+        }
+
+        for (Tag tag : found) {
+            resolved.put(tag.getName(), tag.getId());
+            tagIdCache.put(tag.getName(), tag.getId());
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,68 @@
+package com.hows.alphahows.community.service;
+
+import com.hows.alphahows.community.dto.TagCountResponse;
+import com.hows.alphahows.community.repository.PostTagRepository;
+import com.hows.alphahows.community.repository.TagRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class TagService {
+
+    private static final int DEFAULT_CLOUD_SIZE = 30;
+    private static final int MAX_CLOUD_SIZE = 100;
+
+    private final TagRepository tagRepository;
+    private final PostTagRepository postTagRepository;
+    private final TagResolver tagResolver;
+    private final PostDetailCache postDetailCache;
+
+    @Transactional(readOnly = true)
+    public List<TagCountResponse> getTagCloud(Integer size) {
+        int limit = size == null || size <= 0 ? DEFAULT_CLOUD_SIZE : Math.min(size, MAX_CLOUD_SIZE);
+        return tagRepository.findTopByPostCount(limit);
+    }
+
+    /**
+     * 게시글의 태그 집합을 주어진 이름 목록으로 교체합니다.
+     * 추가/삭제된 태그에 대해서만 post_tags 쓰기가 일어나고, 카운터는 이 호출이 실제로 넣거나 지운 행만큼만 증감합니다.
+     * 같은 게시글을 동시에 수정해 다른 트랜잭션이 먼저 반영한 태그는 두 번 세지 않습니다.
+     */
+    @Transactional
+    public List<String> replaceTags(Long postId, Collection<String> names) {
+        Set<String> normalized = tagResolver.normalize(names);
+        Set<Long> targetTagIds = new HashSet<>(tagResolver.resolveIds(normalized).values());
+        Set<Long> currentTagIds = new HashSet<>(postTagRepository.findTagIdsByPostId(postId));
+
+        List<Long> added = new ArrayList<>();
+        for (Long tagId : targetTagIds) {
+            if (!currentTagIds.contains(tagId)) {
+                added.add(tagId);
+            }
+        }
+        List<Long> removed = new ArrayList<>();
+        for (Long tagId : currentTagIds) {
+            if (!targetTagIds.contains(tagId)) {
+                removed.add(tagId);
+            }
+        }
+
+        if (!added.isEmpty()) {
+            tagRepository.adjustPostCount(postTagRepository.insertIgnore(postId, added), 1);
+        }
+        if (!removed.isEmpty()) {
+            tagRepository.adjustPostCount(postTagRepository.deleteTags(postId, removed), -1);
+        }
+        if (!added.isEmpty() || !removed.isEmpty()) {
+            postDetailCache.evict(postId);
+        }
+        return List.copyOf(normalized);
+    }
+}
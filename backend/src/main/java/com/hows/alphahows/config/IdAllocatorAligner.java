@@ -0,0 +1,57 @@
+package com.hows.alphahows.config;
+
+import com.hows.alphahows.common.IdAllocation;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+/**
+ * IDENTITY로 쌓인 기존 행 위에서 pooled 할당이 시작되도록 id_allocators 값을 맞춥니다.
+ * 할당기는 읽은 값 v에 대해 (v - ALLOCATION_SIZE, v] 구간을 쓰므로 max(id) + ALLOCATION_SIZE 이상이면 충돌하지 않습니다.
+ * 값을 올리기만 하므로 여러 노드가 동시에 기동해도 안전합니다.
+ * EntityManagerFactory(→ Flyway) 이후에 초기화되어 id_allocators 테이블이 만들어진 뒤 실행됩니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class IdAllocatorAligner {
+
+    private static final List<Target> TARGETS = List.of(
+            new Target("page_views", "page_views", "view_id"),
+            new Target("chat_messages", "chat_messages", "message_id"),
+            new Target("document_chunks", "document_chunks", "chunk_id")
+    );
+
+    private static final String RAISE_SQL = "UPDATE " + IdAllocation.TABLE
+            + " SET " + IdAllocation.VALUE_COLUMN + " = ?"
+            + " WHERE " + IdAllocation.PK_COLUMN + " = ? AND " + IdAllocation.VALUE_COLUMN + " < ?";
+    private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO " + IdAllocation.TABLE
+            + " (" + IdAllocation.PK_COLUMN + ", " + IdAllocation.VALUE_COLUMN + ") VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdAllocatorAligner(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void align() {
+        for (Target target : TARGETS) {
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + target.idColumn() + "), 0) FROM " + target.table(), Long.class);
+            long floor = (maxId == null ? 0 : maxId) + IdAllocation.ALLOCATION_SIZE;
+
+            int raised = jdbcTemplate.update(RAISE_SQL, floor, target.segment(), floor);
+            if (raised == 0) {
+                jdbcTemplate.update(INSERT_IGNORE_SQL, target.segment(), floor);
+            }
+            log.debug("id allocator {} aligned to >= {}", target.segment(), floor);
+        }
+    }
+
+    private record Target(String segment, String table, String idColumn) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.hows.alphahows.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+/**
+ * 뒤 단계에서 찾은 정적 리소스를 바이트 배열로 읽어 메모리 리소스로 바꿉니다.
+ * 리소스 체인 캐시(CachingResourceResolver) 뒤에 두면 요청마다 jar 항목을 열고 압축을 푸는 대신
+ * 캐시된 바이트를 그대로 내려보냅니다. 압축본(Content-Encoding)과 같은 응답 헤더는 유지합니다.
+ */
+public class InMemoryResourceResolver extends AbstractResourceResolver {
+
+    private final long maxSize;
+
+    public InMemoryResourceResolver(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(
+            HttpServletRequest request,
+            String requestPath,
+            List<? extends Resource> locations,
+            ResourceResolverChain chain
+    ) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource == null || resource instanceof InMemoryResource) {
+            return resource;
+        }
+        try {
+            // 크기 제한을 넘는 파일은 메모리에 올리지 않고 원래 리소스로 스트리밍
+            return resource.contentLength() > maxSize ? resource : new InMemoryResource(resource);
+        } catch (IOException e) {
+            logger.debug("Falling back to streaming " + resource, e);
+            return resource;
+        }
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(
+            String resourceUrlPath,
+            List<? extends Resource> locations,
+            ResourceResolverChain chain
+    ) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    /**
+     * 내용 MD5를 강한 ETag로 미리 계산해 둡니다. 압축본은 표현이 다르므로 ETag도 따로 가집니다.
+     */
+    public static final class InMemoryResource extends AbstractResource implements HttpResource {
+
+        private final byte[] content;
+        private final String filename;
+        private final long lastModified;
+        private final String description;
+        private final HttpHeaders responseHeaders;
+        private final String etag;
+
+        private InMemoryResource(Resource resource) throws IOException {
+            this.content = resource.getContentAsByteArray();
+            this.filename = resource.getFilename();
+            this.lastModified = resource.lastModified();
+            this.description = resource.getDescription();
+            HttpHeaders headers = new HttpHeaders();
+            if (resource instanceof HttpResource httpResource) {
+                headers.putAll(httpResource.getResponseHeaders());
+            }
+            // 원본 응답도 압축본과 같은 URL이므로 공유 캐시가 인코딩별로 구분하도록 Vary 지정
+            if (!headers.containsHeader(HttpHeaders.VARY)) {
+                headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+            }
+            this.responseHeaders = HttpHeaders.readOnlyHttpHeaders(headers);
+            this.etag = "\"" + DigestUtils.md5DigestAsHex(content) + "\"";
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public byte[] getContentAsByteArray() {
+            return content;
+        }
+
+        @Override
+        public long contentLength() {
+            return content.length;
+        }
+
+        @Override
+        public long lastModified() {
+            return lastModified;
+        }
+
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+
+        @Override
+        public String getDescription() {
+            return "in-memory " + description;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            return responseHeaders;
+        }
+    }
+}
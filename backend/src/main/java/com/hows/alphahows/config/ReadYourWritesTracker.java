@@ -0,0 +1,91 @@
+package com.hows.alphahows.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * 클라이언트가 쓰기 트랜잭션을 커밋한 직후 일정 시간 동안은 그 클라이언트의 읽기를 primary로 보냅니다.
+ * 복제 지연 때문에 방금 저장한 데이터가 목록에서 사라져 보이는 현상을 막기 위함입니다.
+ * 마지막 쓰기 시각은 쿠키로 클라이언트가 들고 다니므로 다음 요청이 다른 노드로 가도 유지됩니다.
+ * 트랜잭션 매니저 리스너로 등록되어 커밋 시점에만 기록하고, HTTP 요청 밖(STOMP 등)의 트랜잭션은 추적하지 않습니다.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    public static final String COOKIE_NAME = "LAST_WRITE_AT";
+    private static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".lastWriteAt";
+
+    private final Duration window;
+    private final boolean secureCookie;
+
+    public ReadYourWritesTracker(Duration window, boolean secureCookie) {
+        this.window = window;
+        this.secureCookie = secureCookie;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()) {
+            return;
+        }
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        boolean firstWrite = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) == null;
+        // 같은 요청 안의 이후 읽기는 쿠키가 아니라 요청 속성으로 판단
+        attributes.setAttribute(REQUEST_ATTRIBUTE, now, RequestAttributes.SCOPE_REQUEST);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (firstWrite && response != null && !response.isCommitted()) {
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(now))
+                    .httpOnly(true)
+                    .secure(secureCookie)
+                    .sameSite("Lax")
+                    .path("/")
+                    .maxAge(window)
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+    }
+
+    public boolean hasRecentWrite() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null) {
+            return false;
+        }
+        Long lastWriteAt = (Long) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (lastWriteAt == null) {
+            lastWriteAt = readCookie(attributes);
+        }
+        // 노드 간 시계 차이를 감안해 미래 시각도 창 안이면 인정
+        return lastWriteAt != null && Math.abs(System.currentTimeMillis() - lastWriteAt) < window.toMillis();
+    }
+
+    private static Long readCookie(ServletRequestAttributes attributes) {
+        Cookie cookie = WebUtils.getCookie(attributes.getRequest(), COOKIE_NAME);
+        if (cookie == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static ServletRequestAttributes currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes
+                : null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.hows.alphahows.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * datasource.replica.url이 설정된 경우에만 읽기/쓰기 분리 데이터소스를 구성합니다.
+ * LazyConnectionDataSourceProxy가 readOnly 트랜잭션의 커넥션을 실제 쿼리 시점까지 미루고
+ * 읽기 전용이면 ReplicaRoutingDataSource를 통해 replica(또는 primary 폴백)에서 가져옵니다.
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replica.url:}'.isEmpty()")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:}") String username,
+            @Value("${datasource.replica.password:}") String password
+    ) {
+        // 계정을 따로 지정하지 않으면 primary 계정을 그대로 사용
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username.isEmpty() ? properties.determineUsername() : username)
+                .password(password.isEmpty() ? properties.determinePassword() : password)
+                .build();
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.replica.read-your-writes-window:5s}") Duration window,
+            @Value("${auth.token.cookie-secure:false}") boolean secureCookie
+    ) {
+        return new ReadYourWritesTracker(window, secureCookie);
+    }
+
+    @Bean
+    public ReplicaReadCacheModeListener replicaReadCacheModeListener(
+            ObjectProvider<EntityManagerFactory> entityManagerFactory,
+            ReadYourWritesTracker readYourWritesTracker
+    ) {
+        return new ReplicaReadCacheModeListener(entityManagerFactory, readYourWritesTracker);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.retry-after:30s}") Duration retryAfter
+    ) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(
+                new ReplicaRoutingDataSource(replica, primary, readYourWritesTracker, retryAfter, meterRegistry));
+        return proxy;
+    }
+}
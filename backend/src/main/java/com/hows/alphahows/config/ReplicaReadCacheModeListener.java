@@ -0,0 +1,72 @@
+package com.hows.alphahows.config;
+
+import com.hows.alphahows.common.PrimaryReads;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * replica로 갈 읽기 전용 트랜잭션에서는 2차 캐시를 읽기만 하고(CacheMode.GET) 채우지 않습니다.
+ * 복제 지연 중 읽은 옛 엔티티가 2차 캐시에 들어가 TTL 동안 남는 것을 막고, 캐시는 primary 조회와 쓰기로만 채워집니다.
+ * open-in-view로 EntityManager가 요청 끝까지 이어지므로 트랜잭션이 끝나면 NORMAL로 되돌립니다.
+ */
+public class ReplicaReadCacheModeListener implements TransactionExecutionListener {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaReadCacheModeListener(
+            ObjectProvider<EntityManagerFactory> entityManagerFactory,
+            ReadYourWritesTracker readYourWritesTracker
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null || !isReadOnlyRoot(transaction)
+                || PrimaryReads.isForced() || readYourWritesTracker.hasRecentWrite()) {
+            return;
+        }
+        Session session = currentSession();
+        if (session != null) {
+            session.setCacheMode(CacheMode.GET);
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        restore(transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        restore(transaction);
+    }
+
+    private void restore(TransactionExecution transaction) {
+        if (!isReadOnlyRoot(transaction)) {
+            return;
+        }
+        Session session = currentSession();
+        if (session != null && session.getCacheMode() == CacheMode.GET) {
+            session.setCacheMode(CacheMode.NORMAL);
+        }
+    }
+
+    private static boolean isReadOnlyRoot(TransactionExecution transaction) {
+        return transaction.isReadOnly() && transaction.isNewTransaction();
+    }
+
+    private Session currentSession() {
+        EntityManager entityManager =
+                EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory.getObject());
+        return entityManager == null ? null : entityManager.unwrap(Session.class);
+    }
+}
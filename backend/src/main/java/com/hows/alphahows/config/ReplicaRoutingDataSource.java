@@ -0,0 +1,92 @@
+package com.hows.alphahows.config;
+
+import com.hows.alphahows.common.PrimaryReads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * 읽기 전용 커넥션 요청을 replica로 보내되, 다음 경우에는 primary로 보냅니다.
+ * - 캐시 로더처럼 PrimaryReads로 primary 조회를 요구한 경우
+ * - 현재 사용자가 방금 쓰기를 커밋한 경우 (read-your-writes)
+ * - replica 커넥션 획득에 실패한 경우 (retryAfter 동안 replica 사용 중지)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource replica;
+    private final DataSource primary;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final long retryAfterNanos;
+
+    private final AtomicLong replicaDownUntil = new AtomicLong();
+    private final Counter replicaCounter;
+    private final Counter primaryCounter;
+    private final Counter fallbackCounter;
+
+    public ReplicaRoutingDataSource(
+            DataSource replica,
+            DataSource primary,
+            ReadYourWritesTracker readYourWritesTracker,
+            Duration retryAfter,
+            MeterRegistry meterRegistry
+    ) {
+        this.replica = replica;
+        this.primary = primary;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.retryAfterNanos = retryAfter.toNanos();
+        this.replicaCounter = routingCounter(meterRegistry, "replica");
+        this.primaryCounter = routingCounter(meterRegistry, "primary");
+        this.fallbackCounter = routingCounter(meterRegistry, "fallback");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(ConnectionOpener opener) throws SQLException {
+        if (PrimaryReads.isForced() || readYourWritesTracker.hasRecentWrite() || isReplicaDown()) {
+            primaryCounter.increment();
+            return opener.open(primary);
+        }
+        try {
+            Connection connection = opener.open(replica);
+            replicaCounter.increment();
+            return connection;
+        } catch (SQLException e) {
+            replicaDownUntil.set(System.nanoTime() + retryAfterNanos);
+            log.warn("Replica connection failed, falling back to primary: {}", e.getMessage());
+            fallbackCounter.increment();
+            return opener.open(primary);
+        }
+    }
+
+    private boolean isReplicaDown() {
+        long until = replicaDownUntil.get();
+        return until != 0 && System.nanoTime() - until < 0;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.read.routing")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
@@ -0,0 +1,107 @@
+package com.hows.alphahows.config;
+
+import jakarta.annotation.PostConstruct;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회 핫패스가 기대하는 인덱스가 실제 스키마에 있는지 기동 시 확인하고, 없으면 기동을 중단합니다.
+ * 인덱스 이름이 아니라 선두 컬럼 구성으로 비교하므로 같은 컬럼으로 시작하는 다른 인덱스도 인정합니다.
+ * EntityManagerFactory(→ Flyway) 이후에 초기화되어 마이그레이션이 끝난 스키마를 검사합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "schema.index-check.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexVerifier {
+
+    private static final List<RequiredIndex> REQUIRED_INDEXES = List.of(
+            new RequiredIndex("offers", "recruiter_user_id", "offer_id"),
+            new RequiredIndex("offers", "recruiter_user_id", "recruiter_read"),
+            new RequiredIndex("offers", "admin_read"),
+            new RequiredIndex("offer_messages", "offer_id", "offer_message_id"),
+            new RequiredIndex("offer_events", "offer_id", "event_id"),
+            new RequiredIndex("offer_events", "recruiter_user_id", "event_id"),
+            new RequiredIndex("users", "role"),
+            new RequiredIndex("document_chunks", "document_id"),
+            new RequiredIndex("chat_messages", "session_id", "message_id"),
+            new RequiredIndex("page_views", "view_date", "path"),
+            new RequiredIndex("comments", "post_id", "id"),
+            new RequiredIndex("post_tags", "tag_id", "post_id"),
+            new RequiredIndex("user_sessions", "expires_at")
+    );
+
+    private final DataSource dataSource;
+
+    public SchemaIndexVerifier(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    public void verify() throws SQLException {
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (RequiredIndex required : REQUIRED_INDEXES) {
+                if (!isCovered(metaData, connection, required)) {
+                    missing.add(required.table() + required.columns());
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing indexes for hot query paths: " + missing
+                    + ". Run the Flyway migrations or set schema.index-check.enabled=false.");
+        }
+        log.info("Verified {} hot-path indexes", REQUIRED_INDEXES.size());
+    }
+
+    private boolean isCovered(DatabaseMetaData metaData, Connection connection, RequiredIndex required)
+            throws SQLException {
+        for (List<String> indexColumns : readIndexes(metaData, connection, required.table()).values()) {
+            if (indexColumns.size() >= required.columns().size()
+                    && indexColumns.subList(0, required.columns().size()).equals(required.columns())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<String, List<String>> readIndexes(DatabaseMetaData metaData, Connection connection, String table)
+            throws SQLException {
+        // 인덱스명 → 컬럼 목록 (ORDINAL_POSITION 순)
+        Map<String, TreeMap<Short, String>> byName = new TreeMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false, false)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (indexName == null || column == null) {
+                    continue;
+                }
+                byName.computeIfAbsent(indexName, key -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+            }
+        }
+        Map<String, List<String>> indexes = new TreeMap<>();
+        byName.forEach((name, columns) -> indexes.put(name, List.copyOf(columns.values())));
+        return indexes;
+    }
+
+    private record RequiredIndex(String table, List<String> columns) {
+
+        RequiredIndex(String table, String... columns) {
+            this(table, List.of(columns));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.hows.alphahows.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.hows.alphahows.common.CacheRegions;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine, 노드 로컬 힙).
+ * 읽기 위주인 User, Tag, Profile만 캐시하며 리전마다 최대 개수와 TTL을 둡니다.
+ * 벌크 UPDATE(@Modifying)는 Hibernate가 해당 엔티티 리전과 natural-id 리전을 통째로 비우므로 캐시 엔티티에는 쓰지 않습니다.
+ * User는 관리 상태 엔티티로 갱신해 해당 항목만 바뀌고, 자주 바뀌는 tags.post_count는 Tag에 매핑하지 않고 JDBC로 갱신합니다.
+ * 다중 노드에서는 다른 노드의 변경이 TTL 동안 보이지 않을 수 있으므로 TTL을 짧게 유지합니다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${jpa.second-level-cache.user.max-size:10000}") long userMaxSize,
+            @Value("${jpa.second-level-cache.user.ttl:10m}") Duration userTtl,
+            @Value("${jpa.second-level-cache.tag.max-size:10000}") long tagMaxSize,
+            @Value("${jpa.second-level-cache.tag.ttl:30m}") Duration tagTtl,
+            @Value("${jpa.second-level-cache.profile.max-size:10000}") long profileMaxSize,
+            @Value("${jpa.second-level-cache.profile.ttl:10m}") Duration profileTtl
+    ) {
+        // 컨텍스트마다 별도 CacheManager를 써서 같은 JVM의 다른 컨텍스트와 리전이 섞이지 않도록 함
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("alphahows-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+        createRegion(cacheManager, CacheRegions.USER, userMaxSize, userTtl);
+        createRegion(cacheManager, CacheRegions.USER_NATURAL_ID, userMaxSize, userTtl);
+        createRegion(cacheManager, CacheRegions.TAG, tagMaxSize, tagTtl);
+        createRegion(cacheManager, CacheRegions.TAG_NATURAL_ID, tagMaxSize, tagTtl);
+        createRegion(cacheManager, CacheRegions.PROFILE, profileMaxSize, profileTtl);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // 위에서 만들지 않은 리전을 쓰려 하면 기동 실패 (설정 누락 방지)
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private void createRegion(CacheManager cacheManager, String name, long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
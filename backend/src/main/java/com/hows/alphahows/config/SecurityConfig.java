@@ -1,15 +1,24 @@
 package com.hows.alphahows.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import lombok.RequiredArgsConstructor;
 import com.hows.alphahows.auth.service.CustomOAuth2UserService;
+import com.hows.alphahows.auth.service.TokenService;
+import com.hows.alphahows.auth.token.AccessTokenFilter;
+import com.hows.alphahows.auth.token.AccessTokenProvider;
+import com.hows.alphahows.auth.token.AuthTokenCookies;
+import com.hows.alphahows.auth.token.TokenLoginSuccessHandler;
 
 @Configuration
 @EnableWebSecurity
@@ -17,20 +26,34 @@ import com.hows.alphahows.auth.service.CustomOAuth2UserService;
 public class SecurityConfig {
 
     private final CustomOAuth2UserService customOAuth2UserService;
+    private final AccessTokenProvider accessTokenProvider;
+    private final TokenService tokenService;
+    private final AuthTokenCookies authTokenCookies;
+    private final TokenLoginSuccessHandler tokenLoginSuccessHandler;
 
+    // cost를 올리면 기존 해시는 다음 로그인 성공 시 PasswordVerifier가 새 cost로 재해시
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
+                // 인증 정보는 토큰으로만 전달하고 HttpSession에 SecurityContext를 저장하지 않음
+                .securityContext(context -> context
+                        .securityContextRepository(new RequestAttributeSecurityContextRepository()))
+                .addFilterBefore(
+                        new AccessTokenFilter(accessTokenProvider, tokenService, authTokenCookies),
+                        UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
                         // AntPathRequestMatcher를 직접 생성하지 않고 문자열 주소만 입력해도 됩니다.
                         .requestMatchers("/h2-console/**", "/", "/index.html", "/assets/**").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/profiles/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/api/**").authenticated()
                         .anyRequest().permitAll())
                 .headers(headers -> headers.frameOptions(f -> f.disable()))
@@ -39,7 +62,7 @@ public class SecurityConfig {
                 .oauth2Login(oauth2 -> oauth2
                         .userInfoEndpoint(userInfo -> userInfo
                                 .userService(customOAuth2UserService))
-                        .defaultSuccessUrl("/", true));
+                        .successHandler(tokenLoginSuccessHandler));
 
         return http.build();
     }
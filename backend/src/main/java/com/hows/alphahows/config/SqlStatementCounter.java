@@ -0,0 +1,34 @@
+package com.hows.alphahows.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL 수를 요청 스레드 단위로 셉니다.
+ * SQL은 변경하지 않고 그대로 돌려주며, start()로 시작한 스레드에서만 집계합니다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> counts = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = counts.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        counts.set(new int[1]);
+    }
+
+    /**
+     * 집계를 끝내고 지금까지의 SQL 수를 돌려줍니다. start() 없이 호출되면 -1.
+     */
+    public int stop() {
+        int[] count = counts.get();
+        counts.remove();
+        return count == null ? -1 : count[0];
+    }
+}
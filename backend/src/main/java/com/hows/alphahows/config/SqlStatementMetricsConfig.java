@@ -0,0 +1,70 @@
+package com.hows.alphahows.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 컨트롤러 요청 하나당 Hibernate SQL 수를 hibernate.request.statements{method,uri} 분포로 기록합니다.
+ * 같은 엔드포인트의 분포가 갑자기 커지면 N+1 회귀를 의심할 수 있습니다.
+ */
+@Configuration
+public class SqlStatementMetricsConfig implements WebMvcConfigurer {
+
+    private final SqlStatementCounter sqlStatementCounter = new SqlStatementCounter();
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementMetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (handler instanceof HandlerMethod) {
+                    sqlStatementCounter.start();
+                }
+                return true;
+            }
+
+            @Override
+            public void afterCompletion(
+                    HttpServletRequest request,
+                    HttpServletResponse response,
+                    Object handler,
+                    Exception ex
+            ) {
+                if (!(handler instanceof HandlerMethod)) {
+                    return;
+                }
+                int statements = sqlStatementCounter.stop();
+                if (statements < 0) {
+                    return;
+                }
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                DistributionSummary.builder("hibernate.request.statements")
+                        .tag("method", request.getMethod())
+                        .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                        .register(meterRegistry)
+                        .record(statements);
+            }
+        });
+    }
+}
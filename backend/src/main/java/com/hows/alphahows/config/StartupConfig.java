@@ -0,0 +1,29 @@
+package com.hows.alphahows.config;
+
+import com.hows.alphahows.community.service.CommunityCounterReconciler;
+import com.hows.alphahows.profile.service.ProfileSnapshotInvalidationListener;
+import com.hows.alphahows.user.service.ExpiredSessionPurgeJob;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 지연 초기화(spring.main.lazy-initialization=true)에서도 기동 시점에 만들어져야 하는 빈.
+ * 스키마/식별자 검사는 기동 실패로 드러나야 하고, @Scheduled 작업과 Hibernate 이벤트 리스너는 빈이 생성되어야 등록됩니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                SchemaIndexVerifier.class,
+                IdAllocatorAligner.class,
+                VirtualThreadPinningMonitor.class,
+                StartupTimeReporter.class,
+                CommunityCounterReconciler.class,
+                ExpiredSessionPurgeJob.class,
+                ProfileSnapshotInvalidationListener.class
+        );
+    }
+}
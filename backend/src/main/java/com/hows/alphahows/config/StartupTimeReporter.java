@@ -0,0 +1,66 @@
+package com.hows.alphahows.config;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 완료(ApplicationReadyEvent) 시점에 ready까지 걸린 시간과 가장 오래 걸린 빈 생성 단계를 로그로 남깁니다.
+ * 단계별 기록은 BufferingApplicationStartup을 쓸 때만 있으며, /actuator/startup에서도 볼 수 있습니다.
+ */
+@Slf4j
+@Component
+public class StartupTimeReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final int slowestSteps;
+
+    public StartupTimeReporter(@Value("${startup.report.slowest-steps:10}") int slowestSteps) {
+        this.slowestSteps = slowestSteps;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        Duration timeTaken = event.getTimeTaken();
+        long jvmUptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        boolean lazy = event.getApplicationContext().getEnvironment()
+                .getProperty("spring.main.lazy-initialization", Boolean.class, false);
+        boolean cds = ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(argument -> argument.startsWith("-XX:SharedArchiveFile"));
+        log.info("Ready in {}ms (JVM uptime {}ms, lazy-init={}, aot={}, cds={})",
+                timeTaken == null ? -1 : timeTaken.toMillis(), jvmUptime, lazy, AotDetector.useGeneratedArtifacts(), cds);
+
+        ApplicationStartup applicationStartup = event.getApplicationContext().getApplicationStartup();
+        if (slowestSteps > 0 && applicationStartup instanceof BufferingApplicationStartup buffering) {
+            log.info("Slowest bean instantiations:\n{}", slowest(buffering.getBufferedTimeline()));
+        }
+    }
+
+    private String slowest(StartupTimeline timeline) {
+        return timeline.getEvents().stream()
+                .filter(event -> "spring.beans.instantiate".equals(event.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(slowestSteps)
+                .map(event -> String.format("  %6dms %s", event.getDuration().toMillis(), beanName(event)))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String beanName(StartupTimeline.TimelineEvent event) {
+        return StreamSupport.stream(event.getStartupStep().getTags().spliterator(), false)
+                .filter(tag -> "beanName".equals(tag.getKey()))
+                .map(StartupStep.Tag::getValue)
+                .findFirst()
+                .orElse("?");
+    }
+}
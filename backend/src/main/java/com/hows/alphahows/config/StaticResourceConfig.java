@@ -0,0 +1,54 @@
+package com.hows.alphahows.config;
+
+import com.hows.alphahows.config.InMemoryResourceResolver.InMemoryResource;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+/**
+ * SPA 정적 리소스 서빙 (spring.web.resources.add-mappings=false로 기본 핸들러 대체).
+ * - /assets/**: 파일명에 내용 해시가 들어가므로 1년 immutable 캐시
+ * - 그 외(index.html 등): 매번 ETag로 재검증해 배포 직후 새 해시 파일을 참조하게 함
+ * 두 경로 모두 빌드 시 만든 .br/.gz 압축본을 우선 사용하고, 해석 결과와 내용을 메모리에 캐시합니다.
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private static final String STATIC_LOCATION = "classpath:/static/";
+
+    private final Duration assetsMaxAge;
+    private final DataSize inMemoryMaxSize;
+
+    public StaticResourceConfig(
+            @Value("${static-resources.assets-max-age:365d}") Duration assetsMaxAge,
+            @Value("${static-resources.in-memory-max-size:2MB}") DataSize inMemoryMaxSize
+    ) {
+        this.assetsMaxAge = assetsMaxAge;
+        this.inMemoryMaxSize = inMemoryMaxSize;
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/assets/**")
+                .addResourceLocations(STATIC_LOCATION + "assets/")
+                .setCacheControl(CacheControl.maxAge(assetsMaxAge).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new InMemoryResourceResolver(inMemoryMaxSize.toBytes()))
+                .addResolver(new EncodedResourceResolver());
+
+        registry.addResourceHandler("/**")
+                .addResourceLocations(STATIC_LOCATION)
+                .setCacheControl(CacheControl.noCache())
+                // jar 항목 수정 시각은 빌드마다 같을 수 있어 Last-Modified 대신 내용 기반 ETag만 사용
+                .setUseLastModified(false)
+                .setEtagGenerator(resource -> resource instanceof InMemoryResource inMemory ? inMemory.getEtag() : null)
+                .resourceChain(true)
+                .addResolver(new InMemoryResourceResolver(inMemoryMaxSize.toBytes()))
+                .addResolver(new EncodedResourceResolver());
+    }
+}
@@ -4,12 +4,9 @@ import com.hows.alphahows.auth.util.AuthPrincipalUtils;
 import java.security.Principal;
 import java.util.Map;
 import java.util.UUID;
-import jakarta.servlet.http.HttpSession;
 import org.springframework.http.server.ServerHttpRequest;
-import org.springframework.http.server.ServletServerHttpRequest;
-import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
@@ -32,15 +29,9 @@ public class WebSocketPrincipalHandshakeHandler extends DefaultHandshakeHandler
             email = AuthPrincipalUtils.resolveEmail(principal);
         }
 
-        // 일부 환경에서 request.getPrincipal()이 비어 있으므로 세션 SecurityContext를 2차로 조회
-        if ((email == null || email.isBlank()) && request instanceof ServletServerHttpRequest servletRequest) {
-            HttpSession session = servletRequest.getServletRequest().getSession(false);
-            if (session != null) {
-                Object contextObj = session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
-                if (contextObj instanceof SecurityContext context) {
-                    email = AuthPrincipalUtils.resolveEmail(context.getAuthentication());
-                }
-            }
+        // 핸드셰이크 요청도 AccessTokenFilter를 거치므로 principal이 없으면 SecurityContextHolder를 2차로 조회
+        if (email == null || email.isBlank()) {
+            email = AuthPrincipalUtils.resolveEmail(SecurityContextHolder.getContext().getAuthentication());
         }
 
         String name = (email == null || email.isBlank())
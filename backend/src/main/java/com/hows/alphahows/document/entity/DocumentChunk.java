@@ -1,6 +1,7 @@
 package com.hows.alphahows.document.entity;
 
 import com.hows.alphahows.common.BaseTimeEntity;
+import com.hows.alphahows.common.IdAllocation;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -11,6 +12,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -30,7 +32,15 @@ import lombok.NoArgsConstructor;
 public class DocumentChunk extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "document_chunks_id")
+    @TableGenerator(
+            name = "document_chunks_id",
+            table = IdAllocation.TABLE,
+            pkColumnName = IdAllocation.PK_COLUMN,
+            valueColumnName = IdAllocation.VALUE_COLUMN,
+            pkColumnValue = "document_chunks",
+            allocationSize = IdAllocation.ALLOCATION_SIZE
+    )
     @Column(name = "chunk_id")
     private Long id;
 
@@ -0,0 +1,9 @@
+package com.hows.alphahows.document.repository;
+
+import com.hows.alphahows.document.entity.Document;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DocumentRepository extends JpaRepository<Document, Long> {
+    List<Document> findByOwnerIdOrderByIdAsc(Long ownerId);
+}
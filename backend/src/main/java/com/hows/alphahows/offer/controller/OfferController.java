@@ -1,15 +1,19 @@
 package com.hows.alphahows.offer.controller;
 
+import com.hows.alphahows.common.JsonArrayStreamWriter;
 import com.hows.alphahows.offer.dto.OfferCreateRequest;
 import com.hows.alphahows.offer.dto.OfferConfirmResponse;
+import com.hows.alphahows.offer.dto.OfferExportFormat;
+import com.hows.alphahows.offer.dto.OfferListItem;
+import com.hows.alphahows.offer.dto.OfferListView;
 import com.hows.alphahows.offer.dto.OfferReadUpdateRequest;
 import com.hows.alphahows.offer.dto.OfferResponse;
 import com.hows.alphahows.offer.dto.OfferStatusUpdateRequest;
 import com.hows.alphahows.offer.dto.OfferUnreadCountResponse;
 import com.hows.alphahows.offer.entity.OfferStatus;
 import com.hows.alphahows.offer.service.OfferService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +24,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestParam;
+import tools.jackson.databind.json.JsonMapper;
 
 @RestController
 @RequestMapping("/api/offers")
@@ -27,6 +32,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class OfferController {
 
     private final OfferService offerService;
+    private final JsonMapper jsonMapper;
 
     @PostMapping
     public OfferResponse createOffer(@Valid @RequestBody OfferCreateRequest request, Authentication authentication) {
@@ -34,13 +40,31 @@ public class OfferController {
     }
 
     @GetMapping
-    public List<OfferResponse> getOffers(
+    public void getOffers(
             Authentication authentication,
             @RequestParam(required = false) OfferStatus status,
             @RequestParam(required = false) Boolean read,
-            @RequestParam(required = false) String keyword
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "SUMMARY") OfferListView view,
+            HttpServletResponse response
     ) {
-        return offerService.getOffers(authentication, status, read, keyword);
+        JsonArrayStreamWriter<OfferListItem> writer = new JsonArrayStreamWriter<>(response, jsonMapper);
+        offerService.streamOffers(authentication, status, read, keyword, view, writer);
+        writer.finish();
+    }
+
+    @GetMapping("/export")
+    public void exportOffers(
+            Authentication authentication,
+            @RequestParam(required = false) OfferStatus status,
+            @RequestParam(required = false) Boolean read,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "CSV") OfferExportFormat format,
+            HttpServletResponse response
+    ) {
+        OfferExportWriter writer = new OfferExportWriter(format, response, jsonMapper);
+        offerService.exportOffers(authentication, status, read, keyword, writer);
+        writer.finish();
     }
 
     @GetMapping("/{offerId}")
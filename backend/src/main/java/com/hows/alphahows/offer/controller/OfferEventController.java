@@ -0,0 +1,38 @@
+package com.hows.alphahows.offer.controller;
+
+import com.hows.alphahows.offer.dto.OfferEventPageResponse;
+import com.hows.alphahows.offer.service.OfferEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/offers")
+@RequiredArgsConstructor
+public class OfferEventController {
+
+    private final OfferEventService offerEventService;
+
+    @GetMapping("/{offerId}/events")
+    public OfferEventPageResponse getHistory(
+            @PathVariable Long offerId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication
+    ) {
+        return offerEventService.getHistory(offerId, after, size, authentication);
+    }
+
+    @GetMapping("/events")
+    public OfferEventPageResponse getFeed(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication
+    ) {
+        return offerEventService.getFeed(after, size, authentication);
+    }
+}
@@ -0,0 +1,146 @@
+package com.hows.alphahows.offer.controller;
+
+import com.hows.alphahows.offer.dto.OfferExportFormat;
+import com.hows.alphahows.offer.dto.OfferExportRow;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 내보내기 행을 CSV 또는 NDJSON으로 응답에 바로 쓴다 (행 단위로 버퍼를 거쳐 내보내므로 메모리 사용량 일정).
+ * JsonArrayStreamWriter와 같이 첫 행에서 응답을 열어, 그 전에 난 예외는 일반 오류 응답으로 처리된다.
+ */
+class OfferExportWriter implements Consumer<OfferExportRow> {
+
+    private static final String CSV_HEADER = "offerId,recruiterEmail,companyName,positionTitle,contactEmail,"
+            + "contactPhone,employmentType,workType,status,salaryMin,salaryMax,currency,salaryUnit,"
+            + "adminRead,recruiterRead,createdAt,message\r\n";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final OfferExportFormat format;
+    private final HttpServletResponse response;
+    private final ObjectWriter jsonWriter;
+    private Writer out;
+    private JsonGenerator generator;
+
+    OfferExportWriter(OfferExportFormat format, HttpServletResponse response, JsonMapper jsonMapper) {
+        this.format = format;
+        this.response = response;
+        this.jsonWriter = jsonMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator((String) null);
+    }
+
+    @Override
+    public void accept(OfferExportRow row) {
+        open();
+        try {
+            switch (format) {
+                case CSV -> writeCsv(row);
+                case NDJSON -> {
+                    jsonWriter.writeValue(generator, row);
+                    generator.writeRaw('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 남은 버퍼를 내보내고 응답을 마무리한다. 행이 없었으면 CSV는 헤더만, NDJSON은 빈 본문이 된다.
+     */
+    void finish() {
+        open();
+        try {
+            if (generator != null) {
+                generator.close();
+            } else {
+                out.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void open() {
+        if (out != null) {
+            return;
+        }
+        response.setContentType(format.contentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("offers-" + LocalDateTime.now().format(FILE_TIMESTAMP) + "." + format.extension())
+                .build()
+                .toString());
+        try {
+            out = new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8);
+            if (format == OfferExportFormat.CSV) {
+                // Excel이 UTF-8로 인식하도록 BOM을 붙인다 (한글 깨짐 방지)
+                out.write('\uFEFF');
+                out.write(CSV_HEADER);
+            } else {
+                generator = jsonWriter.createGenerator(out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(OfferExportRow row) throws IOException {
+        out.write(Long.toString(row.offerId()));
+        writeCsvField(row.recruiterEmail());
+        writeCsvField(row.companyName());
+        writeCsvField(row.positionTitle());
+        writeCsvField(row.contactEmail());
+        writeCsvField(row.contactPhone());
+        writeCsvField(row.employmentType());
+        writeCsvField(row.workType());
+        writeCsvField(row.status());
+        writeCsvField(plain(row.salaryMin()));
+        writeCsvField(plain(row.salaryMax()));
+        writeCsvField(row.currency());
+        writeCsvField(row.salaryUnit());
+        writeCsvField(Boolean.toString(row.adminRead()));
+        writeCsvField(Boolean.toString(row.recruiterRead()));
+        writeCsvField(row.createdAt() == null ? null : row.createdAt().toString());
+        writeCsvField(row.message());
+        out.write("\r\n");
+    }
+
+    // RFC 4180 인용 + 스프레드시트 수식 주입 방지 (=, +, -, @로 시작하는 사용자 입력 앞에 ' 추가)
+    private void writeCsvField(String value) throws IOException {
+        out.write(',');
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String text = switch (value.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> "'" + value;
+            default -> value;
+        };
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            out.write(text);
+            return;
+        }
+        out.write('"');
+        out.write(text.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    private static String plain(BigDecimal value) {
+        return value == null ? null : value.toPlainString();
+    }
+}
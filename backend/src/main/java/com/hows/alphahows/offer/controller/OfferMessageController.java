@@ -0,0 +1,60 @@
+package com.hows.alphahows.offer.controller;
+
+import com.hows.alphahows.offer.dto.OfferMessageCreateRequest;
+import com.hows.alphahows.offer.dto.OfferMessagePageResponse;
+import com.hows.alphahows.offer.dto.OfferMessageResponse;
+import com.hows.alphahows.offer.dto.OfferUnreadCountResponse;
+import com.hows.alphahows.offer.service.OfferMessageService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/offers")
+@RequiredArgsConstructor
+public class OfferMessageController {
+
+    private final OfferMessageService offerMessageService;
+
+    @GetMapping("/{offerId}/messages")
+    public OfferMessagePageResponse getMessages(
+            @PathVariable Long offerId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication
+    ) {
+        return offerMessageService.getMessages(offerId, cursor, size, authentication);
+    }
+
+    @PostMapping("/{offerId}/messages")
+    public OfferMessageResponse createMessage(
+            @PathVariable Long offerId,
+            @Valid @RequestBody OfferMessageCreateRequest request,
+            Authentication authentication
+    ) {
+        return offerMessageService.createMessage(offerId, request, authentication);
+    }
+
+    // upTo: 클라이언트가 마지막으로 본 메시지 id (생략하면 현재까지 전부 읽음)
+    @PatchMapping("/{offerId}/messages/read")
+    public OfferUnreadCountResponse markMessagesRead(
+            @PathVariable Long offerId,
+            @RequestParam(required = false) Long upTo,
+            Authentication authentication
+    ) {
+        return offerMessageService.markMessagesRead(offerId, upTo, authentication);
+    }
+
+    @GetMapping("/messages/unread-count")
+    public OfferUnreadCountResponse getUnreadCount(Authentication authentication) {
+        return offerMessageService.getUnreadCount(authentication);
+    }
+}
@@ -0,0 +1,13 @@
+package com.hows.alphahows.offer.dto;
+
+import java.util.List;
+
+/**
+ * event_id 오름차순. cursor를 다음 요청의 after로 넘기면 이후 이벤트만 받습니다 (새 이벤트가 없으면 after 그대로).
+ */
+public record OfferEventPageResponse(
+        List<OfferEventResponse> events,
+        Long cursor,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,26 @@
+package com.hows.alphahows.offer.dto;
+
+import com.hows.alphahows.offer.entity.OfferEvent;
+import com.hows.alphahows.offer.entity.OfferEventType;
+import com.hows.alphahows.offer.entity.OfferStatus;
+import java.time.LocalDateTime;
+
+public record OfferEventResponse(
+        Long eventId,
+        Long offerId,
+        OfferEventType type,
+        OfferStatus fromStatus,
+        OfferStatus toStatus,
+        LocalDateTime createdAt
+) {
+    public static OfferEventResponse from(OfferEvent event) {
+        return new OfferEventResponse(
+                event.getId(),
+                event.getOfferId(),
+                event.getType(),
+                event.getFromStatus(),
+                event.getToStatus(),
+                event.getCreatedAt()
+        );
+    }
+}
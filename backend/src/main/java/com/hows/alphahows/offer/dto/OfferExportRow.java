@@ -0,0 +1,28 @@
+package com.hows.alphahows.offer.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 내보내기 한 행 (엔티티를 거치지 않고 JDBC 결과에서 바로 만든다)
+ */
+public record OfferExportRow(
+        long offerId,
+        String recruiterEmail,
+        String companyName,
+        String positionTitle,
+        String contactEmail,
+        String contactPhone,
+        String employmentType,
+        String workType,
+        String status,
+        BigDecimal salaryMin,
+        BigDecimal salaryMax,
+        String currency,
+        String salaryUnit,
+        boolean adminRead,
+        boolean recruiterRead,
+        LocalDateTime createdAt,
+        String message
+) {
+}
@@ -0,0 +1,7 @@
+package com.hows.alphahows.offer.dto;
+
+/**
+ * 제안 목록 스트림의 요소. view에 따라 전체 응답(FULL) 또는 요약 응답(SUMMARY)이 흘러갑니다.
+ */
+public sealed interface OfferListItem permits OfferResponse, OfferSummaryResponse {
+}
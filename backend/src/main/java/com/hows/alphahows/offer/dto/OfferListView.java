@@ -0,0 +1,9 @@
+package com.hows.alphahows.offer.dto;
+
+/**
+ * 제안 목록 응답 형태 (SUMMARY는 message/연락처를 제외한 요약 필드만 포함)
+ */
+public enum OfferListView {
+    FULL,
+    SUMMARY
+}
@@ -0,0 +1,9 @@
+package com.hows.alphahows.offer.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record OfferMessageCreateRequest(
+        @NotBlank @Size(max = 5000) String content
+) {
+}
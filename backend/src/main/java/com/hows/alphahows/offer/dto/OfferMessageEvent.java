@@ -0,0 +1,13 @@
+package com.hows.alphahows.offer.dto;
+
+/**
+ * /user/queue/offer-messages 로 전달되는 스레드 이벤트.
+ * unreadCount는 수신자 쪽(관리자/리크루터) 스레드의 갱신된 읽지 않은 수라 클라이언트가 재조회 없이 배지를 맞출 수 있습니다.
+ */
+public record OfferMessageEvent(
+        String type,
+        Long offerId,
+        OfferMessageResponse message,
+        int unreadCount
+) {
+}
@@ -0,0 +1,13 @@
+package com.hows.alphahows.offer.dto;
+
+import java.util.List;
+
+/**
+ * 최신 메시지부터 내림차순. nextCursor를 cursor로 넘기면 그보다 이전 메시지를 이어서 조회합니다.
+ */
+public record OfferMessagePageResponse(
+        List<OfferMessageResponse> messages,
+        Long nextCursor,
+        int unreadCount
+) {
+}
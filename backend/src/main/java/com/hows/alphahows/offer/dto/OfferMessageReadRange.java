@@ -0,0 +1,10 @@
+package com.hows.alphahows.offer.dto;
+
+/**
+ * 읽음 처리 구간의 상대편 메시지 수와 그중 마지막 메시지 id (없으면 null).
+ */
+public record OfferMessageReadRange(
+        long count,
+        Long lastMessageId
+) {
+}
@@ -0,0 +1,25 @@
+package com.hows.alphahows.offer.dto;
+
+import com.hows.alphahows.offer.entity.OfferMessage;
+import com.hows.alphahows.offer.entity.OfferMessageSenderType;
+import java.time.LocalDateTime;
+
+public record OfferMessageResponse(
+        Long offerMessageId,
+        Long offerId,
+        OfferMessageSenderType senderType,
+        String senderNickname,
+        String content,
+        LocalDateTime createdAt
+) {
+    public static OfferMessageResponse from(OfferMessage message) {
+        return new OfferMessageResponse(
+                message.getId(),
+                message.getOffer().getId(),
+                message.getSenderType(),
+                message.getSenderUser() == null ? null : message.getSenderUser().getNickname(),
+                message.getContent(),
+                message.getCreatedAt()
+        );
+    }
+}
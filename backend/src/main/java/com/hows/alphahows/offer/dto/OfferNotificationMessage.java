@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 public record OfferNotificationMessage(
         String type,
         Long offerId,
+        Long eventId,
         String title,
         String message,
         LocalDateTime createdAt
@@ -23,7 +23,7 @@ public record OfferResponse(
         LocalDateTime createdAt,
         boolean read,
         boolean adminRead
-) {
+) implements OfferListItem {
     public static OfferResponse from(Offer offer, boolean read, boolean adminRead) {
         return new OfferResponse(
                 offer.getId(),
@@ -0,0 +1,42 @@
+package com.hows.alphahows.offer.dto;
+
+import com.hows.alphahows.offer.entity.Offer;
+import com.hows.alphahows.offer.entity.OfferStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record OfferSummaryResponse(
+        Long offerId,
+        String recruiterEmail,
+        String companyName,
+        String positionTitle,
+        String employmentType,
+        String workType,
+        OfferStatus status,
+        BigDecimal salaryMin,
+        BigDecimal salaryMax,
+        String currency,
+        String salaryUnit,
+        LocalDateTime createdAt,
+        boolean read,
+        boolean adminRead
+) implements OfferListItem {
+    public static OfferSummaryResponse from(Offer offer, boolean read, boolean adminRead) {
+        return new OfferSummaryResponse(
+                offer.getId(),
+                offer.getRecruiter().getEmail(),
+                offer.getCompanyName(),
+                offer.getPositionTitle(),
+                offer.getEmploymentType().name(),
+                offer.getWorkType().name(),
+                offer.getStatus(),
+                offer.getSalaryMin(),
+                offer.getSalaryMax(),
+                offer.getCurrency(),
+                offer.getSalaryUnit() == null ? null : offer.getSalaryUnit().name(),
+                offer.getCreatedAt(),
+                read,
+                adminRead
+        );
+    }
+}
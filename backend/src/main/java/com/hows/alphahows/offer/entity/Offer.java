@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -25,7 +26,14 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "offers")
+@Table(
+        name = "offers",
+        indexes = {
+                @Index(name = "idx_offers_recruiter_id", columnList = "recruiter_user_id, offer_id"),
+                @Index(name = "idx_offers_recruiter_read", columnList = "recruiter_user_id, recruiter_read"),
+                @Index(name = "idx_offers_admin_read", columnList = "admin_read")
+        }
+)
 public class Offer extends BaseTimeEntity {
 
     @Id
@@ -85,6 +93,23 @@ public class Offer extends BaseTimeEntity {
     @Column(name = "recruiter_read", nullable = false)
     private boolean recruiterRead = true;
 
+    // 메시지 스레드의 읽지 않은 수: OfferRepository의 원자적 update로만 갱신 (엔티티 저장 시 덮어쓰지 않음)
+    @Builder.Default
+    @Column(name = "admin_unread_messages", nullable = false, insertable = false, updatable = false)
+    private int adminUnreadMessages = 0;
+
+    @Builder.Default
+    @Column(name = "recruiter_unread_messages", nullable = false, insertable = false, updatable = false)
+    private int recruiterUnreadMessages = 0;
+
+    @Builder.Default
+    @Column(name = "admin_last_read_message_id", nullable = false, insertable = false, updatable = false)
+    private long adminLastReadMessageId = 0;
+
+    @Builder.Default
+    @Column(name = "recruiter_last_read_message_id", nullable = false, insertable = false, updatable = false)
+    private long recruiterLastReadMessageId = 0;
+
     public void updateStatus(OfferStatus status) {
         this.status = status;
     }
@@ -0,0 +1,60 @@
+package com.hows.alphahows.offer.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 제안 이벤트 로그 (append-only). 쓰기는 OfferEventRecorder의 JDBC 배치 INSERT로만 하고 엔티티는 조회용입니다.
+ * 연관관계 없이 id만 두어 이력/피드 조회가 offers, users 조인 없이 인덱스 범위 스캔으로 끝납니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Immutable
+@Entity
+@Table(
+        name = "offer_events",
+        indexes = {
+                @Index(name = "idx_offer_events_offer_id", columnList = "offer_id, event_id"),
+                @Index(name = "idx_offer_events_recruiter", columnList = "recruiter_user_id, event_id")
+        }
+)
+public class OfferEvent {
+
+    @Id
+    @Column(name = "event_id")
+    private Long id;
+
+    @Column(name = "offer_id", nullable = false)
+    private Long offerId;
+
+    @Column(name = "recruiter_user_id", nullable = false)
+    private Long recruiterUserId;
+
+    @Column(name = "actor_user_id")
+    private Long actorUserId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private OfferEventType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 20)
+    private OfferStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", length = 20)
+    private OfferStatus toStatus;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,10 @@
+package com.hows.alphahows.offer.entity;
+
+public enum OfferEventType {
+    // 이벤트 로그 도입 전부터 있던 제안: 도입 시점 상태(to_status)만 기록, 그 이전 이력은 없음
+    BACKFILLED,
+    CREATED,
+    STATUS_CHANGED,
+    READ_BY_ADMIN,
+    CONFIRMED
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -24,7 +25,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "offer_messages")
+@Table(
+        name = "offer_messages",
+        indexes = @Index(name = "idx_offer_messages_offer_id", columnList = "offer_id, offer_message_id")
+)
 public class OfferMessage extends BaseTimeEntity {
 
     @Id
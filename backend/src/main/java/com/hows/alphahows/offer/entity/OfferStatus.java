@@ -1,9 +1,33 @@
 package com.hows.alphahows.offer.entity;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum OfferStatus {
     SUBMITTED,
     REVIEWED,
     QNA,
     INTERVIEW,
-    CLOSED
+    CLOSED;
+
+    // 상태별 이동 가능한 다음 상태 (단계 건너뛰기는 허용, 되돌리기는 불가, CLOSED는 종료 상태)
+    private static final Map<OfferStatus, Set<OfferStatus>> ALLOWED_TRANSITIONS = new EnumMap<>(OfferStatus.class);
+
+    static {
+        ALLOWED_TRANSITIONS.put(SUBMITTED, EnumSet.of(REVIEWED, QNA, INTERVIEW, CLOSED));
+        ALLOWED_TRANSITIONS.put(REVIEWED, EnumSet.of(QNA, INTERVIEW, CLOSED));
+        ALLOWED_TRANSITIONS.put(QNA, EnumSet.of(INTERVIEW, CLOSED));
+        ALLOWED_TRANSITIONS.put(INTERVIEW, EnumSet.of(CLOSED));
+        ALLOWED_TRANSITIONS.put(CLOSED, EnumSet.noneOf(OfferStatus.class));
+    }
+
+    public boolean canTransitionTo(OfferStatus target) {
+        return ALLOWED_TRANSITIONS.get(this).contains(target);
+    }
+
+    public boolean isTerminal() {
+        return ALLOWED_TRANSITIONS.get(this).isEmpty();
+    }
 }
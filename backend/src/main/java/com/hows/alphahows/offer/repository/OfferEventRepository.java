@@ -0,0 +1,46 @@
+package com.hows.alphahows.offer.repository;
+
+import com.hows.alphahows.offer.entity.OfferEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OfferEventRepository extends JpaRepository<OfferEvent, Long> {
+
+    // (offer_id, event_id) 인덱스 범위 스캔: 제안별 이력 (오래된 순)
+    @Query("""
+            select e from OfferEvent e
+            where e.offerId = :offerId and e.id > :after
+            order by e.id asc
+            """)
+    List<OfferEvent> findHistory(@Param("offerId") Long offerId, @Param("after") long after, Limit limit);
+
+    // 증분 동기화 (관리자: 전체, PK 범위 스캔)
+    @Query("select e from OfferEvent e where e.id > :after order by e.id asc")
+    List<OfferEvent> findFeedAfter(@Param("after") long after, Limit limit);
+
+    @Query("select e from OfferEvent e order by e.id desc")
+    List<OfferEvent> findLatest(Limit limit);
+
+    // 증분 동기화 (리크루터: 본인 제안, (recruiter_user_id, event_id) 인덱스)
+    @Query("""
+            select e from OfferEvent e
+            where e.recruiterUserId = :recruiterId and e.id > :after
+            order by e.id asc
+            """)
+    List<OfferEvent> findRecruiterFeedAfter(
+            @Param("recruiterId") Long recruiterId,
+            @Param("after") long after,
+            Limit limit
+    );
+
+    @Query("select e from OfferEvent e where e.recruiterUserId = :recruiterId order by e.id desc")
+    List<OfferEvent> findRecruiterLatest(@Param("recruiterId") Long recruiterId, Limit limit);
+
+    // 피드 워터마크 기준 시각: created_at과 같은 DB 시계를 사용
+    @Query("select local datetime")
+    LocalDateTime findDatabaseTime();
+}
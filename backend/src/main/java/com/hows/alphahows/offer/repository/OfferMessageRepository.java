@@ -0,0 +1,34 @@
+package com.hows.alphahows.offer.repository;
+
+import com.hows.alphahows.offer.dto.OfferMessageReadRange;
+import com.hows.alphahows.offer.entity.OfferMessage;
+import com.hows.alphahows.offer.entity.OfferMessageSenderType;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OfferMessageRepository extends JpaRepository<OfferMessage, Long> {
+
+    // (offer_id, offer_message_id) 인덱스를 타는 keyset 페이지 (최신순) + 작성자 fetch join
+    @Query("""
+            select m from OfferMessage m left join fetch m.senderUser
+            where m.offer.id = :offerId and m.id < :cursor
+            order by m.id desc
+            """)
+    List<OfferMessage> findPageWithSender(@Param("offerId") Long offerId, @Param("cursor") long cursor, Limit limit);
+
+    // 읽음 처리: (after, upTo] 구간에서 상대편이 보낸 메시지 수 (같은 인덱스 범위 스캔)
+    @Query("""
+            select new com.hows.alphahows.offer.dto.OfferMessageReadRange(count(m), max(m.id))
+            from OfferMessage m
+            where m.offer.id = :offerId and m.senderType = :senderType and m.id > :after and m.id <= :upTo
+            """)
+    OfferMessageReadRange findReadRange(
+            @Param("offerId") Long offerId,
+            @Param("senderType") OfferMessageSenderType senderType,
+            @Param("after") long after,
+            @Param("upTo") long upTo
+    );
+}
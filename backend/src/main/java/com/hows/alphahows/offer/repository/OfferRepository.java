@@ -1,20 +1,68 @@
 package com.hows.alphahows.offer.repository;
 
 import com.hows.alphahows.offer.entity.Offer;
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface OfferRepository extends JpaRepository<Offer, Long> {
-    List<Offer> findByRecruiterIdOrderByIdDesc(Long recruiterId);
-
+public interface OfferRepository extends JpaRepository<Offer, Long>, OfferRepositoryCustom {
     Optional<Offer> findByIdAndRecruiterId(Long id, Long recruiterId);
 
-    List<Offer> findAllByOrderByIdDesc();
-
     long countByAdminReadFalse();
 
     long countByRecruiterIdAndRecruiterReadFalse(Long recruiterId);
 
     List<Offer> findByRecruiterIdAndRecruiterReadFalseOrderByIdDesc(Long recruiterId);
+
+    boolean existsByIdAndRecruiterId(Long id, Long recruiterId);
+
+    // 읽음 처리의 첫 문장: 제안 행을 잠가 진행 중인 메시지 작성(카운터 증가 후 INSERT)이 없는 상태에서 구간을 센다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Offer o where o.id = :offerId")
+    Optional<Offer> findByIdForUpdate(@Param("offerId") Long offerId);
+
+    // 메시지 스레드의 읽지 않은 수: 동시 작성에도 누락되지 않도록 행 단위 원자적 증감
+    @Modifying
+    @Query("update Offer o set o.adminUnreadMessages = o.adminUnreadMessages + 1 where o.id = :offerId")
+    int incrementAdminUnreadMessages(@Param("offerId") Long offerId);
+
+    @Modifying
+    @Query("update Offer o set o.recruiterUnreadMessages = o.recruiterUnreadMessages + 1 where o.id = :offerId")
+    int incrementRecruiterUnreadMessages(@Param("offerId") Long offerId);
+
+    @Modifying
+    @Query("""
+            update Offer o
+            set o.adminUnreadMessages = o.adminUnreadMessages - :count, o.adminLastReadMessageId = :lastMessageId
+            where o.id = :offerId
+            """)
+    int markAdminMessagesRead(
+            @Param("offerId") Long offerId,
+            @Param("count") int count,
+            @Param("lastMessageId") long lastMessageId
+    );
+
+    @Modifying
+    @Query("""
+            update Offer o
+            set o.recruiterUnreadMessages = o.recruiterUnreadMessages - :count,
+                o.recruiterLastReadMessageId = :lastMessageId
+            where o.id = :offerId
+            """)
+    int markRecruiterMessagesRead(
+            @Param("offerId") Long offerId,
+            @Param("count") int count,
+            @Param("lastMessageId") long lastMessageId
+    );
+
+    @Query("select o.adminUnreadMessages from Offer o where o.id = :offerId")
+    int findAdminUnreadMessages(@Param("offerId") Long offerId);
+
+    @Query("select o.recruiterUnreadMessages from Offer o where o.id = :offerId")
+    int findRecruiterUnreadMessages(@Param("offerId") Long offerId);
 }
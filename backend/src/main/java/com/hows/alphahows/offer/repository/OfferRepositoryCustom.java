@@ -0,0 +1,30 @@
+package com.hows.alphahows.offer.repository;
+
+import com.hows.alphahows.offer.dto.OfferExportRow;
+import com.hows.alphahows.offer.entity.Offer;
+import com.hows.alphahows.offer.entity.OfferStatus;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public interface OfferRepositoryCustom {
+
+    /**
+     * 목록 스트리밍용: status/read/keyword 조건을 쿼리에 넣고 recruiter를 함께 조회해 id 내림차순 커서로 읽습니다.
+     * recruiterId가 null이면 전체(관리자) 조회이며, 이때만 keyword가 모집자 이메일도 검색합니다.
+     * null인 조건은 적용하지 않습니다. 트랜잭션 안에서 소비 후 close해야 합니다.
+     */
+    Stream<Offer> streamOffers(
+            Long recruiterId,
+            OfferStatus status,
+            Boolean adminRead,
+            Boolean recruiterRead,
+            String keyword
+    );
+
+    /**
+     * 조건에 맞는 제안을 id 내림차순으로 forward-only 커서에서 한 행씩 읽어 sink에 넘깁니다.
+     * 영속성 컨텍스트를 거치지 않으므로 전체 테이블을 내보내도 메모리 사용량이 일정합니다.
+     * adminRead, keyword가 null이면 해당 조건을 적용하지 않습니다.
+     */
+    void exportRows(OfferStatus status, Boolean adminRead, String keyword, Consumer<OfferExportRow> sink);
+}
@@ -0,0 +1,176 @@
+package com.hows.alphahows.offer.repository;
+
+import com.hows.alphahows.offer.dto.OfferExportRow;
+import com.hows.alphahows.offer.entity.Offer;
+import com.hows.alphahows.offer.entity.OfferStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.util.StringUtils;
+
+@RequiredArgsConstructor
+public class OfferRepositoryCustomImpl implements OfferRepositoryCustom {
+
+    private static final String EXPORT_SQL = """
+            SELECT o.offer_id, u.email, o.company_name, o.position_title, o.contact_email, o.contact_phone,
+                   o.employment_type, o.work_type, o.status, o.salary_min, o.salary_max, o.currency,
+                   o.salary_unit, o.admin_read, o.recruiter_read, o.created_at, o.message
+            FROM offers o
+            JOIN users u ON u.id = o.recruiter_user_id
+            """;
+
+    private static final String KEYWORD_CONDITION = "(LOWER(o.company_name) LIKE ? ESCAPE '!'"
+            + " OR LOWER(o.position_title) LIKE ? ESCAPE '!'"
+            + " OR LOWER(o.message) LIKE ? ESCAPE '!'"
+            + " OR LOWER(u.email) LIKE ? ESCAPE '!')";
+
+    private static final String LIST_JPQL = "select o from Offer o join fetch o.recruiter r";
+
+    private static final String LIST_KEYWORD_CONDITION = "(lower(o.companyName) like :keyword escape '!'"
+            + " or lower(o.positionTitle) like :keyword escape '!'"
+            + " or lower(o.message) like :keyword escape '!'";
+
+    // OfferService의 영속성 컨텍스트 clear 주기와 맞춤
+    private static final int LIST_FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 운영 MySQL은 useCursorFetch=true와 함께 써야 서버 커서로 이 크기만큼씩 받아온다
+    @Value("${offer.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    public Stream<Offer> streamOffers(
+            Long recruiterId,
+            OfferStatus status,
+            Boolean adminRead,
+            Boolean recruiterRead,
+            String keyword
+    ) {
+        List<String> conditions = new ArrayList<>();
+        if (recruiterId != null) {
+            conditions.add("r.id = :recruiterId");
+        }
+        if (status != null) {
+            conditions.add("o.status = :status");
+        }
+        if (adminRead != null) {
+            conditions.add("o.adminRead = :adminRead");
+        }
+        if (recruiterRead != null) {
+            conditions.add("o.recruiterRead = :recruiterRead");
+        }
+        boolean hasKeyword = StringUtils.hasText(keyword);
+        if (hasKeyword) {
+            conditions.add(LIST_KEYWORD_CONDITION
+                    + (recruiterId == null ? " or lower(r.email) like :keyword escape '!')" : ")"));
+        }
+        String jpql = LIST_JPQL
+                + (conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions))
+                + " order by o.id desc";
+
+        TypedQuery<Offer> query = entityManager.createQuery(jpql, Offer.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, LIST_FETCH_SIZE);
+        if (recruiterId != null) {
+            query.setParameter("recruiterId", recruiterId);
+        }
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (adminRead != null) {
+            query.setParameter("adminRead", adminRead);
+        }
+        if (recruiterRead != null) {
+            query.setParameter("recruiterRead", recruiterRead);
+        }
+        if (hasKeyword) {
+            query.setParameter("keyword", likePattern(keyword));
+        }
+        return query.getResultStream();
+    }
+
+    @Override
+    public void exportRows(OfferStatus status, Boolean adminRead, String keyword, Consumer<OfferExportRow> sink) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (status != null) {
+            conditions.add("o.status = ?");
+            args.add(status.name());
+        }
+        if (adminRead != null) {
+            conditions.add("o.admin_read = ?");
+            args.add(adminRead);
+        }
+        if (StringUtils.hasText(keyword)) {
+            String pattern = likePattern(keyword);
+            conditions.add(KEYWORD_CONDITION);
+            for (int i = 0; i < 4; i++) {
+                args.add(pattern);
+            }
+        }
+        String sql = EXPORT_SQL
+                + (conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + "\n")
+                + "ORDER BY o.offer_id DESC";
+
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    for (int i = 0; i < args.size(); i++) {
+                        statement.setObject(i + 1, args.get(i));
+                    }
+                    return statement;
+                },
+                (RowCallbackHandler) resultSet -> sink.accept(toRow(resultSet))
+        );
+    }
+
+    private static OfferExportRow toRow(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp(16);
+        return new OfferExportRow(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getString(5),
+                rs.getString(6),
+                rs.getString(7),
+                rs.getString(8),
+                rs.getString(9),
+                rs.getBigDecimal(10),
+                rs.getBigDecimal(11),
+                rs.getString(12),
+                rs.getString(13),
+                rs.getBoolean(14),
+                rs.getBoolean(15),
+                createdAt == null ? null : createdAt.toLocalDateTime(),
+                rs.getString(17)
+        );
+    }
+
+    private static String likePattern(String keyword) {
+        return "%" + escapeLike(keyword.trim().toLowerCase(Locale.ROOT)) + "%";
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
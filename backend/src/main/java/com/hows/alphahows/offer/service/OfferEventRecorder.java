@@ -0,0 +1,101 @@
+package com.hows.alphahows.offer.service;
+
+import com.hows.alphahows.offer.entity.Offer;
+import com.hows.alphahows.offer.entity.OfferEventType;
+import com.hows.alphahows.offer.entity.OfferStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * offer_events에 이벤트를 추가합니다. 호출한 트랜잭션의 커넥션에서 실행되므로 상태 변경과 함께 커밋/롤백되고,
+ * 여러 건은 한 번의 JDBC 배치로 INSERT 합니다 (운영 MySQL은 rewriteBatchedStatements로 multi-row INSERT).
+ * 엔티티 persist를 거치지 않아 IDENTITY 키여도 배치가 꺼지지 않습니다.
+ * <p>
+ * event_id는 커밋이 아니라 INSERT 시점에 정해지므로 트랜잭션끼리는 직렬화하지 않고,
+ * created_at을 DB 시계로 남겨 피드가 안전 지연(워터마크) 이전 이벤트만 내보내게 합니다 (OfferEventService).
+ */
+@Component
+@RequiredArgsConstructor
+public class OfferEventRecorder {
+
+    private static final String INSERT_SQL = "INSERT INTO offer_events"
+            + " (offer_id, recruiter_user_id, actor_user_id, event_type, from_status, to_status, created_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP(6))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 이벤트 한 건을 기록하고 event_id를 돌려줍니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long record(Offer offer, OfferEventType type, OfferStatus fromStatus, OfferStatus toStatus, Long actorUserId) {
+        return recordAll(List.of(offer), type, fromStatus, toStatus, actorUserId).get(0);
+    }
+
+    /**
+     * 같은 종류의 이벤트를 제안마다 한 건씩 배치로 기록하고, 입력 순서대로 event_id를 돌려줍니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Long> recordAll(
+            List<Offer> offers,
+            OfferEventType type,
+            OfferStatus fromStatus,
+            OfferStatus toStatus,
+            Long actorUserId
+    ) {
+        if (offers.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Offer offer = offers.get(i);
+                        ps.setLong(1, offer.getId());
+                        ps.setLong(2, offer.getRecruiter().getId());
+                        setNullableLong(ps, 3, actorUserId);
+                        ps.setString(4, type.name());
+                        ps.setString(5, fromStatus == null ? null : fromStatus.name());
+                        ps.setString(6, toStatus == null ? null : toStatus.name());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return offers.size();
+                    }
+                },
+                keyHolder
+        );
+        meterRegistry.counter("offer.events", "type", type.name()).increment(offers.size());
+
+        List<Long> ids = new ArrayList<>(offers.size());
+        for (var keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.hows.alphahows.offer.service;
+
+import com.hows.alphahows.auth.principal.AuthUser;
+import com.hows.alphahows.auth.service.CurrentUserResolver;
+import com.hows.alphahows.common.PrimaryReads;
+import com.hows.alphahows.offer.dto.OfferEventPageResponse;
+import com.hows.alphahows.offer.dto.OfferEventResponse;
+import com.hows.alphahows.offer.entity.OfferEvent;
+import com.hows.alphahows.offer.repository.OfferEventRepository;
+import com.hows.alphahows.offer.repository.OfferRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * offer_events 조회: 제안별 이력과 요청자 범위(관리자 전체, 리크루터 본인 제안)의 증분 동기화.
+ * <p>
+ * event_id는 INSERT 시점에 정해지므로, 먼저 INSERT 했지만 늦게 커밋된 작은 id가 이미 그보다 큰 커서를 받은
+ * 클라이언트의 증분 동기화(id > after)에서 빠질 수 있습니다. 그래서 피드는 DB 시계 기준 feed-safety-lag보다 오래된
+ * 이벤트까지만 내보내고, 그보다 새로운 이벤트를 만나면 거기서 멈춥니다. 이벤트를 쓰는 트랜잭션이 INSERT 후 이 지연 안에
+ * 끝나기만 하면 커서 뒤에 작은 id가 나타나지 않습니다. replica 복제 지연까지 지연 예산에 넣지 않도록 피드는 primary에서 읽습니다.
+ */
+@Service
+public class OfferEventService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final CurrentUserResolver currentUserResolver;
+    private final OfferEventRepository offerEventRepository;
+    private final OfferRepository offerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration feedSafetyLag;
+
+    public OfferEventService(
+            CurrentUserResolver currentUserResolver,
+            OfferEventRepository offerEventRepository,
+            OfferRepository offerRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${offer.events.feed-safety-lag:5s}") Duration feedSafetyLag
+    ) {
+        this.currentUserResolver = currentUserResolver;
+        this.offerEventRepository = offerEventRepository;
+        this.offerRepository = offerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.feedSafetyLag = feedSafetyLag;
+    }
+
+    @Transactional(readOnly = true)
+    public OfferEventPageResponse getHistory(Long offerId, Long after, Integer size, Authentication authentication) {
+        AuthUser requester = currentUserResolver.resolve(authentication);
+        boolean readable = requester.isAdmin()
+                ? offerRepository.existsById(offerId)
+                : offerRepository.existsByIdAndRecruiterId(offerId, requester.getUserId());
+        if (!readable) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Offer not found");
+        }
+
+        int pageSize = pageSize(size);
+        long from = after == null ? 0L : after;
+        return toPage(offerEventRepository.findHistory(offerId, from, Limit.of(pageSize + 1)), pageSize, from);
+    }
+
+    /**
+     * after 이후 이벤트를 오래된 순으로 돌려줍니다. after가 없으면 최근 size건(활동 피드 첫 화면)과 그 커서를 돌려줍니다.
+     * 워터마크보다 새로운 이벤트는 다음 폴링에서 내보냅니다.
+     */
+    public OfferEventPageResponse getFeed(Long after, Integer size, Authentication authentication) {
+        AuthUser requester = currentUserResolver.resolve(authentication);
+        return PrimaryReads.call(() -> readOnlyTransaction.execute(status -> readFeed(requester, after, size)));
+    }
+
+    private OfferEventPageResponse readFeed(AuthUser requester, Long after, Integer size) {
+        boolean admin = requester.isAdmin();
+        int pageSize = pageSize(size);
+        LocalDateTime watermark = offerEventRepository.findDatabaseTime().minus(feedSafetyLag);
+
+        if (after == null) {
+            List<OfferEvent> latest = new ArrayList<>(admin
+                    ? offerEventRepository.findLatest(Limit.of(pageSize))
+                    : offerEventRepository.findRecruiterLatest(requester.getUserId(), Limit.of(pageSize)));
+            Collections.reverse(latest);
+            return toPage(settledPrefix(latest, watermark), pageSize, 0L);
+        }
+
+        List<OfferEvent> rows = admin
+                ? offerEventRepository.findFeedAfter(after, Limit.of(pageSize + 1))
+                : offerEventRepository.findRecruiterFeedAfter(requester.getUserId(), after, Limit.of(pageSize + 1));
+        return toPage(settledPrefix(rows, watermark), pageSize, after);
+    }
+
+    /**
+     * id 오름차순 목록에서 워터마크보다 새로운 첫 이벤트 앞까지만 남깁니다.
+     * 중간 이벤트만 거르면 그보다 큰 id로 커서가 넘어가 거른 이벤트를 다시 받지 못하므로 처음 만난 곳에서 자릅니다.
+     */
+    private static List<OfferEvent> settledPrefix(List<OfferEvent> rows, LocalDateTime watermark) {
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i).getCreatedAt().isAfter(watermark)) {
+                return rows.subList(0, i);
+            }
+        }
+        return rows;
+    }
+
+    private OfferEventPageResponse toPage(List<OfferEvent> rows, int pageSize, long after) {
+        boolean hasMore = rows.size() > pageSize;
+        List<OfferEvent> page = hasMore ? rows.subList(0, pageSize) : rows;
+        long cursor = page.isEmpty() ? after : page.get(page.size() - 1).getId();
+        return new OfferEventPageResponse(page.stream().map(OfferEventResponse::from).toList(), cursor, hasMore);
+    }
+
+    private int pageSize(Integer size) {
+        return size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+    }
+}
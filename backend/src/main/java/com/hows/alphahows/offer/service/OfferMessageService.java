@@ -0,0 +1,159 @@
+package com.hows.alphahows.offer.service;
+
+import com.hows.alphahows.auth.principal.AuthUser;
+import com.hows.alphahows.auth.service.CurrentUserResolver;
+import com.hows.alphahows.offer.dto.OfferMessageCreateRequest;
+import com.hows.alphahows.offer.dto.OfferMessagePageResponse;
+import com.hows.alphahows.offer.dto.OfferMessageReadRange;
+import com.hows.alphahows.offer.dto.OfferMessageResponse;
+import com.hows.alphahows.offer.dto.OfferUnreadCountResponse;
+import com.hows.alphahows.offer.entity.Offer;
+import com.hows.alphahows.offer.entity.OfferMessage;
+import com.hows.alphahows.offer.entity.OfferMessageSenderType;
+import com.hows.alphahows.offer.repository.OfferMessageRepository;
+import com.hows.alphahows.offer.repository.OfferRepository;
+import com.hows.alphahows.user.repository.UserRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 제안별 리크루터-관리자 메시지 스레드.
+ * 읽지 않은 수는 offers의 쪽별 카운터와 받는 사람별 합계(OfferUnreadMessageTotals)를 작성/읽음 시점에만 갱신하고,
+ * 조회 때는 카운터를 그대로 읽습니다. 관리자 쪽 카운터는 관리자 전원이 공유합니다.
+ * <p>
+ * 읽음 처리는 0으로 지우지 않고 (마지막 읽은 id, 클라이언트가 확인한 id] 구간의 상대편 메시지 수만큼만 줄이므로,
+ * 확인 이후 도착한 메시지는 읽지 않은 상태로 남습니다. 작성은 카운터 증가(제안 행 잠금) 후 INSERT,
+ * 읽음 처리는 제안 행 잠금 후 구간 집계 순서라 집계 중에 같은 제안의 메시지 INSERT가 진행 중일 수 없습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OfferMessageService {
+
+    private static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CurrentUserResolver currentUserResolver;
+    private final OfferRepository offerRepository;
+    private final OfferMessageRepository offerMessageRepository;
+    private final UserRepository userRepository;
+    private final OfferNotificationService offerNotificationService;
+    private final OfferUnreadMessageTotals unreadMessageTotals;
+
+    @Transactional(readOnly = true)
+    public OfferMessagePageResponse getMessages(Long offerId, Long cursor, Integer size, Authentication authentication) {
+        AuthUser requester = currentUserResolver.resolve(authentication);
+        verifyReadable(offerId, requester);
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+
+        List<OfferMessage> rows = offerMessageRepository.findPageWithSender(offerId, before, Limit.of(pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<OfferMessage> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+        int unreadCount = requester.isAdmin()
+                ? offerRepository.findAdminUnreadMessages(offerId)
+                : offerRepository.findRecruiterUnreadMessages(offerId);
+        return new OfferMessagePageResponse(
+                page.stream().map(OfferMessageResponse::from).toList(),
+                nextCursor,
+                unreadCount
+        );
+    }
+
+    @Transactional
+    public OfferMessageResponse createMessage(
+            Long offerId,
+            OfferMessageCreateRequest request,
+            Authentication authentication
+    ) {
+        AuthUser requester = currentUserResolver.resolve(authentication);
+        Offer offer = findReadableOffer(offerId, requester);
+        boolean admin = requester.isAdmin();
+
+        // 받는 쪽 카운터만 올리고, 보낸 쪽 카운터는 그대로 둔다 (먼저 올려 제안 행을 잠근 뒤 INSERT)
+        if (admin) {
+            offerRepository.incrementRecruiterUnreadMessages(offerId);
+        } else {
+            offerRepository.incrementAdminUnreadMessages(offerId);
+        }
+        OfferMessage message = offerMessageRepository.save(OfferMessage.builder()
+                .offer(offer)
+                .senderUser(userRepository.getReferenceById(requester.getUserId()))
+                .senderType(admin ? OfferMessageSenderType.ADMIN : OfferMessageSenderType.RECRUITER)
+                .content(request.content())
+                .build());
+        unreadMessageTotals.increment(!admin, offer.getRecruiter().getId());
+
+        OfferMessageResponse response = OfferMessageResponse.from(message);
+        offerNotificationService.notifyMessageCreated(
+                offer,
+                response,
+                offerRepository.findAdminUnreadMessages(offerId),
+                offerRepository.findRecruiterUnreadMessages(offerId)
+        );
+        return response;
+    }
+
+    /**
+     * upToMessageId(없으면 지금까지의 모든 메시지)까지 상대편 메시지를 읽음 처리하고 요청자의 전체 읽지 않은 수를 돌려줍니다.
+     */
+    @Transactional
+    public OfferUnreadCountResponse markMessagesRead(Long offerId, Long upToMessageId, Authentication authentication) {
+        AuthUser requester = currentUserResolver.resolve(authentication);
+        boolean admin = requester.isAdmin();
+        Offer offer = offerRepository.findByIdForUpdate(offerId)
+                .filter(found -> admin || found.getRecruiter().getId().equals(requester.getUserId()))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Offer not found"));
+        Long recruiterId = offer.getRecruiter().getId();
+
+        long lastRead = admin ? offer.getAdminLastReadMessageId() : offer.getRecruiterLastReadMessageId();
+        OfferMessageReadRange range = offerMessageRepository.findReadRange(
+                offerId,
+                admin ? OfferMessageSenderType.RECRUITER : OfferMessageSenderType.ADMIN,
+                lastRead,
+                upToMessageId == null ? Long.MAX_VALUE : upToMessageId
+        );
+        if (range.count() > 0) {
+            int count = Math.toIntExact(range.count());
+            if (admin) {
+                offerRepository.markAdminMessagesRead(offerId, count, range.lastMessageId());
+            } else {
+                offerRepository.markRecruiterMessagesRead(offerId, count, range.lastMessageId());
+            }
+            unreadMessageTotals.decrement(admin, recruiterId, count);
+            offerNotificationService.notifyMessagesRead(offer, admin);
+        }
+        return new OfferUnreadCountResponse(unreadMessageTotals.get(admin, recruiterId));
+    }
+
+    @Transactional(readOnly = true)
+    public OfferUnreadCountResponse getUnreadCount(Authentication authentication) {
+        AuthUser requester = currentUserResolver.resolve(authentication);
+        return new OfferUnreadCountResponse(unreadMessageTotals.get(requester.isAdmin(), requester.getUserId()));
+    }
+
+    private void verifyReadable(Long offerId, AuthUser requester) {
+        boolean readable = requester.isAdmin()
+                ? offerRepository.existsById(offerId)
+                : offerRepository.existsByIdAndRecruiterId(offerId, requester.getUserId());
+        if (!readable) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Offer not found");
+        }
+    }
+
+    private Offer findReadableOffer(Long offerId, AuthUser requester) {
+        if (requester.isAdmin()) {
+            return offerRepository.findById(offerId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Offer not found"));
+        }
+
+        return offerRepository.findByIdAndRecruiterId(offerId, requester.getUserId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Offer not found"));
+    }
+}
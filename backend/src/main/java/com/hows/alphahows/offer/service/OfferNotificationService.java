@@ -1,26 +1,39 @@
 package com.hows.alphahows.offer.service;
 
+import com.hows.alphahows.offer.dto.OfferMessageEvent;
+import com.hows.alphahows.offer.dto.OfferMessageResponse;
 import com.hows.alphahows.offer.dto.OfferNotificationMessage;
 import com.hows.alphahows.offer.entity.Offer;
 import com.hows.alphahows.user.entity.User;
 import com.hows.alphahows.user.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
 public class OfferNotificationService {
 
+    private static final String MESSAGE_CREATED = "OFFER_MESSAGE_CREATED";
+    private static final String MESSAGES_READ = "OFFER_MESSAGES_READ";
+
     private final SimpMessagingTemplate messagingTemplate;
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
 
-    public void notifyAdminsOfferCreated(Offer offer) {
+    // 오퍼 알림은 offer_events 기록 뒤 커밋되면 발행하고, eventId로 클라이언트가 증분 동기화 커서를 맞춘다
+    public void notifyAdminsOfferCreated(Offer offer, long eventId) {
         OfferNotificationMessage payload = new OfferNotificationMessage(
                 "OFFER_CREATED",
                 offer.getId(),
+                eventId,
                 "새 오퍼가 도착했습니다.",
                 offer.getCompanyName() + " - " + offer.getPositionTitle(),
                 LocalDateTime.now()
@@ -28,42 +41,126 @@ public class OfferNotificationService {
         sendToAdmins(payload);
     }
 
-    public void notifyRecruiterStatusChanged(Offer offer) {
+    public void notifyRecruiterStatusChanged(Offer offer, Long eventId) {
         OfferNotificationMessage payload = new OfferNotificationMessage(
                 "OFFER_STATUS_CHANGED",
                 offer.getId(),
+                eventId,
                 "오퍼 상태가 변경되었습니다.",
                 "현재 상태: " + offer.getStatus().name(),
                 LocalDateTime.now()
         );
-        String recruiterEmail = offer.getRecruiter().getEmail();
-        if (recruiterEmail != null && !recruiterEmail.isBlank()) {
-            sendToUserChannels(recruiterEmail, payload);
-        }
+        sendToRecruiter(offer, payload);
     }
 
-    public void notifyRecruiterOfferRead(Offer offer) {
+    public void notifyRecruiterOfferRead(Offer offer, long eventId) {
         OfferNotificationMessage payload = new OfferNotificationMessage(
                 "OFFER_READ_BY_ADMIN",
                 offer.getId(),
+                eventId,
                 "관리자가 오퍼를 확인했습니다.",
                 offer.getCompanyName() + " - " + offer.getPositionTitle(),
                 LocalDateTime.now()
         );
+        sendToRecruiter(offer, payload);
+    }
+
+    /**
+     * 스레드 새 메시지를 양쪽(관리자 전원, 리크루터)에 전달합니다. 각자 쪽의 갱신된 읽지 않은 수를 함께 보냅니다.
+     */
+    public void notifyMessageCreated(Offer offer, OfferMessageResponse message, int adminUnread, int recruiterUnread) {
+        List<String> adminEmails = findAdminEmails();
         String recruiterEmail = offer.getRecruiter().getEmail();
-        if (recruiterEmail != null && !recruiterEmail.isBlank()) {
-            sendToUserChannels(recruiterEmail, payload);
-        }
+        Long offerId = offer.getId();
+        sendAfterCommit(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            OfferMessageEvent toAdmins = new OfferMessageEvent(MESSAGE_CREATED, offerId, message, adminUnread);
+            adminEmails.forEach(email -> sendToMessageQueue(email, toAdmins));
+            int recipients = adminEmails.size();
+            if (hasText(recruiterEmail)) {
+                sendToMessageQueue(recruiterEmail,
+                        new OfferMessageEvent(MESSAGE_CREATED, offerId, message, recruiterUnread));
+                recipients++;
+            }
+            recordFanOut(sample, MESSAGE_CREATED, recipients);
+        });
+    }
+
+    /**
+     * 한쪽이 스레드를 읽었을 때 같은 쪽의 다른 세션(다른 탭, 다른 관리자)도 배지를 0으로 맞추도록 알립니다.
+     */
+    public void notifyMessagesRead(Offer offer, boolean byAdmin) {
+        List<String> recipients = byAdmin ? findAdminEmails() : recruiterEmails(offer);
+        OfferMessageEvent payload = new OfferMessageEvent(MESSAGES_READ, offer.getId(), null, 0);
+        sendAfterCommit(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            recipients.forEach(email -> sendToMessageQueue(email, payload));
+            recordFanOut(sample, MESSAGES_READ, recipients.size());
+        });
     }
 
     private void sendToAdmins(OfferNotificationMessage payload) {
-        List<User> admins = userRepository.findByRoleIgnoreCase("ADMIN");
-        for (User admin : admins) {
-            if (admin.getEmail() == null || admin.getEmail().isBlank()) {
-                continue;
-            }
-            sendToUserChannels(admin.getEmail(), payload);
+        List<String> adminEmails = findAdminEmails();
+        sendAfterCommit(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            adminEmails.forEach(email -> sendToUserChannels(email, payload));
+            recordFanOut(sample, payload.type(), adminEmails.size());
+        });
+    }
+
+    private List<String> findAdminEmails() {
+        return userRepository.findByRole("ADMIN").stream()
+                .map(User::getEmail)
+                .filter(OfferNotificationService::hasText)
+                .toList();
+    }
+
+    private List<String> recruiterEmails(Offer offer) {
+        String email = offer.getRecruiter().getEmail();
+        return hasText(email) ? List.of(email) : List.of();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    // 롤백된 변경이 전달되지 않도록 커밋 이후에 발행
+    private void sendAfterCommit(Runnable send) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send.run();
+            }
+        });
+    }
+
+    private void sendToRecruiter(Offer offer, OfferNotificationMessage payload) {
+        List<String> recipients = recruiterEmails(offer);
+        sendAfterCommit(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            recipients.forEach(email -> sendToUserChannels(email, payload));
+            recordFanOut(sample, payload.type(), recipients.size());
+        });
+    }
+
+    // 브로커 전달 시간과 수신자 수 (수신자 조회는 트랜잭션 안에서 미리 끝냄)
+    private void recordFanOut(Timer.Sample sample, String type, int recipients) {
+        sample.stop(Timer.builder("offer.notification.fanout")
+                .tag("type", type)
+                .register(meterRegistry));
+        DistributionSummary.builder("offer.notification.recipients")
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(recipients);
+    }
+
+    // 메시지 본문이 담기므로 추측 가능한 /topic 경로 없이 사용자 큐로만 보냄
+    private void sendToMessageQueue(String email, OfferMessageEvent payload) {
+        messagingTemplate.convertAndSendToUser(email, "/queue/offer-messages", payload);
     }
 
     private void sendToUserChannels(String email, OfferNotificationMessage payload) {
@@ -71,7 +168,7 @@ public class OfferNotificationService {
         messagingTemplate.convertAndSend("/topic/notifications/" + toTopicKey(email), payload);
     }
 
-    private String toTopicKey(String email) {
+    static String toTopicKey(String email) {
         return email.toLowerCase().replaceAll("[^a-z0-9]", "_");
     }
 }
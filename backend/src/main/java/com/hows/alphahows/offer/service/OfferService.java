@@ -1,42 +1,58 @@
 package com.hows.alphahows.offer.service;
 
-import com.hows.alphahows.auth.util.AuthPrincipalUtils;
+import com.hows.alphahows.auth.principal.AuthUser;
+import com.hows.alphahows.auth.service.CurrentUserResolver;
 import com.hows.alphahows.offer.dto.OfferCreateRequest;
 import com.hows.alphahows.offer.dto.OfferConfirmResponse;
+import com.hows.alphahows.offer.dto.OfferExportRow;
+import com.hows.alphahows.offer.dto.OfferListItem;
+import com.hows.alphahows.offer.dto.OfferListView;
 import com.hows.alphahows.offer.dto.OfferReadUpdateRequest;
 import com.hows.alphahows.offer.dto.OfferResponse;
 import com.hows.alphahows.offer.dto.OfferStatusUpdateRequest;
+import com.hows.alphahows.offer.dto.OfferSummaryResponse;
 import com.hows.alphahows.offer.dto.OfferUnreadCountResponse;
 import com.hows.alphahows.offer.entity.Offer;
+import com.hows.alphahows.offer.entity.OfferEventType;
 import com.hows.alphahows.offer.entity.OfferStatus;
 import com.hows.alphahows.offer.repository.OfferRepository;
-import com.hows.alphahows.user.entity.User;
 import com.hows.alphahows.user.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
 @RequiredArgsConstructor
 public class OfferService {
 
+    // OfferRepositoryCustomImpl 목록 스트림의 fetch size와 맞춤
+    private static final int STREAM_CLEAR_INTERVAL = 500;
+
+    private final CurrentUserResolver currentUserResolver;
     private final OfferRepository offerRepository;
     private final UserRepository userRepository;
     private final OfferNotificationService offerNotificationService;
+    private final OfferEventRecorder offerEventRecorder;
+    private final MeterRegistry meterRegistry;
+    private final EntityManager entityManager;
 
     @Transactional
     public OfferResponse createOffer(OfferCreateRequest request, Authentication authentication) {
         validateSalaryRange(request.salaryMin(), request.salaryMax());
-        User requester = resolveCurrentUser(authentication);
+        AuthUser requester = resolveCurrentUser(authentication);
 
         Offer offer = Offer.builder()
-                .recruiter(requester)
+                .recruiter(userRepository.getReferenceById(requester.getUserId()))
                 .companyName(request.companyName())
                 .positionTitle(request.positionTitle())
                 .contactEmail(request.contactEmail())
@@ -54,35 +70,84 @@ public class OfferService {
         offer.markReadByRecruiter(true);
 
         Offer savedOffer = offerRepository.save(offer);
-        offerNotificationService.notifyAdminsOfferCreated(savedOffer);
+        long eventId = offerEventRecorder.record(
+                savedOffer, OfferEventType.CREATED, null, OfferStatus.SUBMITTED, requester.getUserId());
+        offerNotificationService.notifyAdminsOfferCreated(savedOffer, eventId);
         return OfferResponse.from(savedOffer, isReadForUser(savedOffer, requester), savedOffer.isAdminRead());
     }
 
+    /**
+     * 조건에 맞는 제안을 id 내림차순으로 sink에 하나씩 넘긴다.
+     * 목록을 메모리에 모으지 않으므로 sink는 이 트랜잭션 안에서 바로 소비해야 한다.
+     */
     @Transactional(readOnly = true)
-    public List<OfferResponse> getOffers(
+    public void streamOffers(
             Authentication authentication,
             OfferStatus status,
             Boolean read,
-            String keyword
+            String keyword,
+            OfferListView view,
+            Consumer<OfferListItem> sink
     ) {
-        User requester = resolveCurrentUser(authentication);
-        boolean admin = isAdmin(requester);
+        AuthUser requester = resolveCurrentUser(authentication);
+        boolean admin = requester.isAdmin();
+        boolean summary = view == OfferListView.SUMMARY;
+
+        // 읽음 필터는 요청자 쪽 플래그 기준 (관리자는 adminRead, 모집자는 recruiterRead)
+        Boolean adminRead = admin ? read : null;
+        Boolean recruiterRead = admin ? null : read;
+        long returned = 0;
+        try (Stream<Offer> offers = offerRepository.streamOffers(
+                admin ? null : requester.getUserId(), status, adminRead, recruiterRead, keyword)) {
+            Iterator<Offer> iterator = offers.iterator();
+            while (iterator.hasNext()) {
+                Offer offer = iterator.next();
+                // 읽기 전용 순회라 쓸 변경이 없으므로 fetch 단위로 영속성 컨텍스트를 비워 메모리를 일정하게 유지
+                if (++returned % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+                boolean readForUser = isReadForUser(offer, requester);
+                sink.accept(summary
+                        ? OfferSummaryResponse.from(offer, readForUser, offer.isAdminRead())
+                        : OfferResponse.from(offer, readForUser, offer.isAdminRead()));
+            }
+        }
 
-        List<Offer> offers = admin
-                ? offerRepository.findAllByOrderByIdDesc()
-                : offerRepository.findByRecruiterIdOrderByIdDesc(requester.getId());
+        DistributionSummary.builder("offer.list.returned")
+                .tag("role", admin ? "admin" : "user")
+                .register(meterRegistry)
+                .record(returned);
+    }
 
-        return offers.stream()
-                .filter(offer -> status == null || offer.getStatus() == status)
-                .filter(offer -> read == null || isReadFilterMatched(offer, admin, read))
-                .filter(offer -> matchesKeyword(offer, keyword, admin))
-                .map(offer -> OfferResponse.from(offer, isReadForUser(offer, requester), offer.isAdminRead()))
-                .toList();
+    /**
+     * 관리자 내보내기: 목록과 같은 status/read/keyword 조건으로 JDBC 커서에서 한 행씩 sink에 넘긴다.
+     */
+    @Transactional(readOnly = true)
+    public void exportOffers(
+            Authentication authentication,
+            OfferStatus status,
+            Boolean read,
+            String keyword,
+            Consumer<OfferExportRow> sink
+    ) {
+        AuthUser requester = resolveCurrentUser(authentication);
+        if (!requester.isAdmin()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only admin can export offers");
+        }
+
+        long[] exported = new long[1];
+        offerRepository.exportRows(status, read, keyword, row -> {
+            sink.accept(row);
+            exported[0]++;
+        });
+        DistributionSummary.builder("offer.export.rows")
+                .register(meterRegistry)
+                .record(exported[0]);
     }
 
     @Transactional(readOnly = true)
     public OfferResponse getOffer(Long offerId, Authentication authentication) {
-        User requester = resolveCurrentUser(authentication);
+        AuthUser requester = resolveCurrentUser(authentication);
 
         Offer offer = findReadableOffer(offerId, requester);
         return OfferResponse.from(offer, isReadForUser(offer, requester), offer.isAdminRead());
@@ -90,15 +155,21 @@ public class OfferService {
 
     @Transactional
     public OfferResponse updateStatus(Long offerId, OfferStatusUpdateRequest request, Authentication authentication) {
-        User requester = resolveCurrentUser(authentication);
+        AuthUser requester = resolveCurrentUser(authentication);
         Offer offer = findWritableOffer(offerId, requester);
 
-        validateStatusTransition(offer.getStatus(), request.status());
+        OfferStatus before = offer.getStatus();
+        validateStatusTransition(before, request.status());
         offer.updateStatus(request.status());
-        if (isAdmin(requester)) {
+        // 같은 상태로의 요청은 이력에 남기지 않음 (알림은 기존처럼 발행, eventId 없음)
+        Long eventId = before == request.status()
+                ? null
+                : offerEventRecorder.record(
+                        offer, OfferEventType.STATUS_CHANGED, before, request.status(), requester.getUserId());
+        if (requester.isAdmin()) {
             offer.markReadByAdmin(true);
             offer.markReadByRecruiter(false);
-            offerNotificationService.notifyRecruiterStatusChanged(offer);
+            offerNotificationService.notifyRecruiterStatusChanged(offer, eventId);
         }
 
         return OfferResponse.from(offer, isReadForUser(offer, requester), offer.isAdminRead());
@@ -106,10 +177,10 @@ public class OfferService {
 
     @Transactional
     public OfferResponse updateRead(Long offerId, OfferReadUpdateRequest request, Authentication authentication) {
-        User requester = resolveCurrentUser(authentication);
+        AuthUser requester = resolveCurrentUser(authentication);
         Offer offer = findReadableOffer(offerId, requester);
 
-        if (!isAdmin(requester)) {
+        if (!requester.isAdmin()) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only admin can update read state");
         }
 
@@ -119,7 +190,9 @@ public class OfferService {
 
         if (!before && after) {
             offer.markReadByRecruiter(false);
-            offerNotificationService.notifyRecruiterOfferRead(offer);
+            long eventId = offerEventRecorder.record(
+                    offer, OfferEventType.READ_BY_ADMIN, null, null, requester.getUserId());
+            offerNotificationService.notifyRecruiterOfferRead(offer, eventId);
         }
 
         return OfferResponse.from(offer, isReadForUser(offer, requester), offer.isAdminRead());
@@ -127,53 +200,57 @@ public class OfferService {
 
     @Transactional(readOnly = true)
     public OfferUnreadCountResponse getUnreadCount(Authentication authentication) {
-        User requester = resolveCurrentUser(authentication);
-        long unreadCount = isAdmin(requester)
+        AuthUser requester = resolveCurrentUser(authentication);
+        long unreadCount = requester.isAdmin()
                 ? offerRepository.countByAdminReadFalse()
-                : offerRepository.countByRecruiterIdAndRecruiterReadFalse(requester.getId());
+                : offerRepository.countByRecruiterIdAndRecruiterReadFalse(requester.getUserId());
         return new OfferUnreadCountResponse(unreadCount);
     }
 
     @Transactional
     public OfferConfirmResponse confirmUnreadForUser(Authentication authentication) {
-        User requester = resolveCurrentUser(authentication);
-        if (isAdmin(requester)) {
+        AuthUser requester = resolveCurrentUser(authentication);
+        if (requester.isAdmin()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Admin does not use confirmUnreadForUser");
         }
 
-        List<Offer> unreadOffers = offerRepository.findByRecruiterIdAndRecruiterReadFalseOrderByIdDesc(requester.getId());
+        List<Offer> unreadOffers = offerRepository.findByRecruiterIdAndRecruiterReadFalseOrderByIdDesc(requester.getUserId());
         for (Offer offer : unreadOffers) {
             offer.markReadByRecruiter(true);
         }
+        offerEventRecorder.recordAll(unreadOffers, OfferEventType.CONFIRMED, null, null, requester.getUserId());
 
         return new OfferConfirmResponse(unreadOffers.size());
     }
 
     @Transactional
     public OfferResponse confirmOfferForUser(Long offerId, Authentication authentication) {
-        User requester = resolveCurrentUser(authentication);
-        if (isAdmin(requester)) {
+        AuthUser requester = resolveCurrentUser(authentication);
+        if (requester.isAdmin()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Admin does not use confirmOfferForUser");
         }
 
-        Offer offer = offerRepository.findByIdAndRecruiterId(offerId, requester.getId())
+        Offer offer = offerRepository.findByIdAndRecruiterId(offerId, requester.getUserId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Offer not found"));
 
-        offer.markReadByRecruiter(true);
+        if (!offer.isRecruiterRead()) {
+            offer.markReadByRecruiter(true);
+            offerEventRecorder.record(offer, OfferEventType.CONFIRMED, null, null, requester.getUserId());
+        }
         return OfferResponse.from(offer, isReadForUser(offer, requester), offer.isAdminRead());
     }
 
-    private Offer findReadableOffer(Long offerId, User requester) {
-        if (isAdmin(requester)) {
+    private Offer findReadableOffer(Long offerId, AuthUser requester) {
+        if (requester.isAdmin()) {
             return offerRepository.findById(offerId)
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Offer not found"));
         }
 
-        return offerRepository.findByIdAndRecruiterId(offerId, requester.getId())
+        return offerRepository.findByIdAndRecruiterId(offerId, requester.getUserId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Offer not found"));
     }
 
-    private Offer findWritableOffer(Long offerId, User requester) {
+    private Offer findWritableOffer(Long offerId, AuthUser requester) {
         return findReadableOffer(offerId, requester);
     }
 
@@ -190,10 +267,10 @@ public class OfferService {
         if (current == target) {
             return;
         }
-        if (current == OfferStatus.CLOSED) {
+        if (current.isTerminal()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Closed offer cannot be changed");
         }
-        if (target.ordinal() < current.ordinal()) {
+        if (!current.canTransitionTo(target)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot move status backward");
         }
     }
@@ -202,48 +279,16 @@ public class OfferService {
         return currency == null ? null : currency.trim().toUpperCase();
     }
 
-    private boolean isAdmin(User user) {
-        return "ADMIN".equalsIgnoreCase(user.getRole());
+    private AuthUser resolveCurrentUser(Authentication authentication) {
+        return currentUserResolver.resolve(authentication, this::countUserResolution);
     }
 
-    private User resolveCurrentUser(Authentication authentication) {
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
-        }
-
-        String email = AuthPrincipalUtils.resolveEmail(authentication);
-
-        if (email == null || email.isBlank()) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Cannot resolve current user");
-        }
-
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
-    }
-
-    private boolean isReadForUser(Offer offer, User requester) {
-        return isAdmin(requester) ? offer.isAdminRead() : offer.isRecruiterRead();
-    }
-
-    private boolean isReadFilterMatched(Offer offer, boolean admin, boolean read) {
-        if (admin) {
-            return offer.isAdminRead() == read;
-        }
-        return offer.isAdminRead() == read;
-    }
-
-    private boolean matchesKeyword(Offer offer, String keyword, boolean admin) {
-        if (!StringUtils.hasText(keyword)) {
-            return true;
-        }
-        String query = keyword.trim().toLowerCase(Locale.ROOT);
-        return contains(offer.getCompanyName(), query)
-                || contains(offer.getPositionTitle(), query)
-                || contains(offer.getMessage(), query)
-                || (admin && contains(offer.getRecruiter().getEmail(), query));
+    // principal에서 바로 읽으므로 DB 조회 지연은 없고, 해석 결과만 집계
+    private void countUserResolution(String outcome) {
+        meterRegistry.counter("offer.user.resolve", "outcome", outcome).increment();
     }
 
-    private boolean contains(String source, String keyword) {
-        return source != null && source.toLowerCase(Locale.ROOT).contains(keyword);
+    private boolean isReadForUser(Offer offer, AuthUser requester) {
+        return requester.isAdmin() ? offer.isAdminRead() : offer.isRecruiterRead();
     }
 }
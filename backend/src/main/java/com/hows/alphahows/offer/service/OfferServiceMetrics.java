@@ -0,0 +1,72 @@
+package com.hows.alphahows.offer.service;
+
+import com.hows.alphahows.auth.principal.AuthUser;
+import com.hows.alphahows.auth.util.AuthPrincipalUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * OfferService의 모든 public 메서드 호출 시간을 method/role/outcome 태그로 기록합니다.
+ * outcome은 success, ResponseStatusException이면 상태 코드에 대응하는 HttpStatus 이름(NOT_FOUND 등,
+ * 표준에 없는 코드는 숫자 그대로), 그 외 예외는 error 입니다.
+ * 호출 수는 타이머의 count로 함께 노출됩니다.
+ */
+@Aspect
+@Component
+public class OfferServiceMetrics {
+
+    private static final String TIMER_NAME = "offer.service";
+
+    private final MeterRegistry meterRegistry;
+
+    public OfferServiceMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.hows.alphahows.offer.service.OfferService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (ResponseStatusException e) {
+            outcome = outcomeOf(e.getStatusCode());
+            throw e;
+        } catch (RuntimeException | Error e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("role", resolveRole(joinPoint.getArgs()))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String outcomeOf(HttpStatusCode statusCode) {
+        HttpStatus status = HttpStatus.resolve(statusCode.value());
+        return status != null ? status.name() : String.valueOf(statusCode.value());
+    }
+
+    private String resolveRole(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof Authentication authentication) {
+                AuthUser authUser = AuthPrincipalUtils.resolveAuthUser(authentication);
+                if (authUser == null) {
+                    return "anonymous";
+                }
+                return authUser.isAdmin() ? "admin" : "user";
+            }
+        }
+        return "none";
+    }
+}
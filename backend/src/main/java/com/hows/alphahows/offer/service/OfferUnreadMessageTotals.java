@@ -0,0 +1,56 @@
+package com.hows.alphahows.offer.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 받는 사람별 읽지 않은 메시지 합계 (offer_message_unread_totals).
+ * 제안별 카운터와 같은 트랜잭션에서 같은 수만큼 증감하므로, 배지 조회는 제안을 합산하지 않고 이 행 하나만 읽습니다.
+ * 관리자 합계는 관리자 전원이 공유하는 한 행입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OfferUnreadMessageTotals {
+
+    private static final String ADMIN = "ADMIN";
+    private static final String RECRUITER = "RECRUITER";
+    private static final long SHARED_ADMIN_ID = 0L;
+
+    private static final String INCREMENT_SQL = "INSERT INTO offer_message_unread_totals"
+            + " (recipient_type, recipient_id, unread_messages) VALUES (?, ?, 1)"
+            + " ON DUPLICATE KEY UPDATE unread_messages = unread_messages + 1";
+    private static final String DECREMENT_SQL = "UPDATE offer_message_unread_totals"
+            + " SET unread_messages = GREATEST(unread_messages - ?, 0)"
+            + " WHERE recipient_type = ? AND recipient_id = ?";
+    private static final String SELECT_SQL = "SELECT unread_messages FROM offer_message_unread_totals"
+            + " WHERE recipient_type = ? AND recipient_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increment(boolean admin, Long recruiterId) {
+        jdbcTemplate.update(INCREMENT_SQL, type(admin), recipientId(admin, recruiterId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void decrement(boolean admin, Long recruiterId, long count) {
+        jdbcTemplate.update(DECREMENT_SQL, count, type(admin), recipientId(admin, recruiterId));
+    }
+
+    public long get(boolean admin, Long recruiterId) {
+        List<Long> rows = jdbcTemplate.queryForList(SELECT_SQL, Long.class, type(admin), recipientId(admin, recruiterId));
+        return rows.isEmpty() ? 0L : rows.get(0);
+    }
+
+    private static String type(boolean admin) {
+        return admin ? ADMIN : RECRUITER;
+    }
+
+    private static long recipientId(boolean admin, Long recruiterId) {
+        return admin ? SHARED_ADMIN_ID : recruiterId;
+    }
+}
@@ -0,0 +1,32 @@
+package com.hows.alphahows.profile.controller;
+
+import com.hows.alphahows.profile.service.ProfileSnapshot;
+import com.hows.alphahows.profile.service.ProfileSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/profiles")
+@RequiredArgsConstructor
+public class ProfileController {
+
+    private final ProfileSnapshotService profileSnapshotService;
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<byte[]> getProfile(@PathVariable Long userId) {
+        ProfileSnapshot snapshot = profileSnapshotService.getSnapshot(userId);
+
+        // If-None-Match가 ETag와 일치하면 HttpEntityMethodProcessor가 본문 없이 304로 응답
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.body());
+    }
+}
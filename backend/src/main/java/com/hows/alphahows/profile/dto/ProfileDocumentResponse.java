@@ -0,0 +1,21 @@
+package com.hows.alphahows.profile.dto;
+
+import com.hows.alphahows.document.entity.Document;
+
+public record ProfileDocumentResponse(
+        Long documentId,
+        String type,
+        String title,
+        String sourceUri,
+        int version
+) {
+    public static ProfileDocumentResponse from(Document document) {
+        return new ProfileDocumentResponse(
+                document.getId(),
+                document.getType().name(),
+                document.getTitle(),
+                document.getSourceUri(),
+                document.getVersion()
+        );
+    }
+}
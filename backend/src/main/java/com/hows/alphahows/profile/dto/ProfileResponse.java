@@ -0,0 +1,27 @@
+package com.hows.alphahows.profile.dto;
+
+import com.hows.alphahows.profile.entity.Profile;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ProfileResponse(
+        Long userId,
+        String displayName,
+        String headline,
+        String bio,
+        String contactMasked,
+        List<ProfileDocumentResponse> documents,
+        LocalDateTime updatedAt
+) {
+    public static ProfileResponse from(Profile profile, List<ProfileDocumentResponse> documents) {
+        return new ProfileResponse(
+                profile.getUserId(),
+                profile.getDisplayName(),
+                profile.getHeadline(),
+                profile.getBio(),
+                profile.getContactMasked(),
+                documents,
+                profile.getUpdatedAt()
+        );
+    }
+}
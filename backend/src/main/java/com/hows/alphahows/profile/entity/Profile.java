@@ -1,6 +1,7 @@
 package com.hows.alphahows.profile.entity;
 
 import com.hows.alphahows.common.BaseTimeEntity;
+import com.hows.alphahows.common.CacheRegions;
 import com.hows.alphahows.user.entity.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -15,12 +16,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROFILE)
 @Table(name = "profile")
 public class Profile extends BaseTimeEntity {
 
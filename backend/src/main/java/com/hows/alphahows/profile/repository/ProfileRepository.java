@@ -0,0 +1,7 @@
+package com.hows.alphahows.profile.repository;
+
+import com.hows.alphahows.profile.entity.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProfileRepository extends JpaRepository<Profile, Long> {
+}
@@ -0,0 +1,11 @@
+package com.hows.alphahows.profile.service;
+
+/**
+ * 직렬화가 끝난 프로필 JSON과 그 내용 기반 strong ETag
+ * body 배열은 외부로 노출된 뒤 수정하지 않습니다.
+ */
+public record ProfileSnapshot(
+        byte[] body,
+        String etag
+) {
+}
@@ -0,0 +1,85 @@
+package com.hows.alphahows.profile.service;
+
+import com.hows.alphahows.document.entity.Document;
+import com.hows.alphahows.profile.entity.Profile;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Profile / Document 변경 시 해당 사용자의 프로필 스냅샷을 무효화합니다.
+ * 엔티티가 서비스 계층을 참조하지 않도록 @EntityListeners 대신 Hibernate 이벤트 리스너로 등록하며,
+ * 서비스 메서드를 거치지 않은 변경(변경 감지 UPDATE 포함)도 플러시 시점에 잡습니다.
+ */
+@Component
+public class ProfileSnapshotInvalidationListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final ProfileSnapshotService profileSnapshotService;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ProfileSnapshotInvalidationListener(
+            ProfileSnapshotService profileSnapshotService,
+            EntityManagerFactory entityManagerFactory
+    ) {
+        this.profileSnapshotService = profileSnapshotService;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void onChange(Object entity) {
+        Long userId = resolveUserId(entity);
+        if (userId != null) {
+            profileSnapshotService.invalidate(userId);
+        }
+    }
+
+    private Long resolveUserId(Object entity) {
+        if (entity instanceof Profile profile) {
+            return profile.getUserId();
+        }
+        if (entity instanceof Document document) {
+            return document.getOwner().getId();
+        }
+        return null;
+    }
+}
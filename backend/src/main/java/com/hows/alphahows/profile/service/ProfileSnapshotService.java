@@ -0,0 +1,88 @@
+package com.hows.alphahows.profile.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hows.alphahows.common.PrimaryReads;
+import com.hows.alphahows.document.repository.DocumentRepository;
+import com.hows.alphahows.profile.dto.ProfileDocumentResponse;
+import com.hows.alphahows.profile.dto.ProfileResponse;
+import com.hows.alphahows.profile.entity.Profile;
+import com.hows.alphahows.profile.repository.ProfileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 공개 프로필 응답을 미리 직렬화해 두고 그대로 내려줍니다.
+ * Profile 또는 소유 Document가 바뀌면 스냅샷을 버리고 다음 요청에서 다시 만듭니다.
+ */
+@Service
+public class ProfileSnapshotService {
+
+    private final ProfileRepository profileRepository;
+    private final DocumentRepository documentRepository;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<Long, ProfileSnapshot> snapshots;
+
+    public ProfileSnapshotService(
+            ProfileRepository profileRepository,
+            DocumentRepository documentRepository,
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${profile.snapshot-cache.max-size:10000}") long maxSize
+    ) {
+        this.profileRepository = profileRepository;
+        this.documentRepository = documentRepository;
+        this.jsonMapper = jsonMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "profile.snapshot");
+    }
+
+    // 캐시 적중 시에는 트랜잭션/커넥션 없이 반환하고, 스냅샷을 만드는 조회만 primary의 읽기 전용 트랜잭션에서 실행
+    public ProfileSnapshot getSnapshot(Long userId) {
+        return snapshots.get(userId, key -> PrimaryReads.call(
+                () -> readOnlyTransaction.execute(status -> buildSnapshot(key))));
+    }
+
+    public void invalidate(Long userId) {
+        snapshots.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshots.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private ProfileSnapshot buildSnapshot(Long userId) {
+        // Profile의 PK가 user_id이므로 User 연관을 초기화하지 않고 조회 가능
+        Profile profile = profileRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Profile not found"));
+        List<ProfileDocumentResponse> documents = documentRepository.findByOwnerIdOrderByIdAsc(userId).stream()
+                .map(ProfileDocumentResponse::from)
+                .toList();
+
+        byte[] body = jsonMapper.writeValueAsBytes(ProfileResponse.from(profile, documents));
+        String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        return new ProfileSnapshot(body, etag);
+    }
+}
@@ -1,12 +1,17 @@
 package com.hows.alphahows.user.entity;
 
 import com.hows.alphahows.common.BaseTimeEntity;
+import com.hows.alphahows.common.CacheRegions;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * 사용자 정보 엔티티
@@ -17,13 +22,16 @@ import lombok.Builder;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER)
+@NaturalIdCache(region = CacheRegions.USER_NATURAL_ID)
+@Table(name = "users", indexes = @Index(name = "idx_users_role", columnList = "role"))
 public class User extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id; // 사용자 고유 ID
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String email; // 로그인 아이디 (이메일)
 
@@ -39,4 +47,23 @@ public class User extends BaseTimeEntity {
     @Column(nullable = true)
     private String password; // 로컬 로그인을 위한 비밀번호 (소셜 로그인은 null)
 
+    public void changePassword(String password) {
+        this.password = password;
+    }
+
+    /**
+     * 소셜 로그인으로 받은 프로필을 반영합니다. 값이 바뀌었을 때만 true를 돌려줍니다.
+     */
+    public boolean applySocialProfile(String nickname, String provider) {
+        boolean changed = false;
+        if (nickname != null && !nickname.equals(this.nickname)) {
+            this.nickname = nickname;
+            changed = true;
+        }
+        if (!provider.equals(this.provider)) {
+            this.provider = provider;
+            changed = true;
+        }
+        return changed;
+    }
 }
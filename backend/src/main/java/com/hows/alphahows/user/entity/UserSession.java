@@ -16,7 +16,13 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "user_sessions")
+@Table(
+        name = "user_sessions",
+        indexes = {
+                @Index(name = "uk_user_sessions_refresh_token", columnList = "refresh_token", unique = true),
+                @Index(name = "idx_user_sessions_expires_at", columnList = "expires_at")
+        }
+)
 public class UserSession extends BaseTimeEntity {
 
     @Id
@@ -28,7 +34,7 @@ public class UserSession extends BaseTimeEntity {
     private User user; // 세션 주인
 
     @Column(name = "refresh_token", nullable = false)
-    private String refreshToken; // 리프레시 토큰 값
+    private String refreshToken; // 리프레시 토큰의 SHA-256 해시 (원문은 저장하지 않음)
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt; // 토큰 만료 시간
@@ -39,4 +45,13 @@ public class UserSession extends BaseTimeEntity {
         this.refreshToken = refreshToken;
         this.expiresAt = expiresAt;
     }
+
+    public void rotate(String refreshToken, LocalDateTime expiresAt) {
+        this.refreshToken = refreshToken;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
 }
@@ -4,10 +4,8 @@ import com.hows.alphahows.user.entity.User;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
-
-    List<User> findByRoleIgnoreCase(String role);
+    // upper() 비교는 idx_users_role을 못 타므로 정확히 일치 비교 (MySQL 기본 collation은 대소문자 무시)
+    List<User> findByRole(String role);
 }
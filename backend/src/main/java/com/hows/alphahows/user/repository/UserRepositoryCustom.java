@@ -0,0 +1,23 @@
+package com.hows.alphahows.user.repository;
+
+import com.hows.alphahows.user.entity.User;
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * 이메일(natural id)로 조회합니다. 2차 캐시의 natural-id → id, id → 엔티티 순으로 찾고 없을 때만 DB를 조회합니다.
+     * 인증 경로에서 쓰이므로 replica가 있어도 항상 primary에서 읽습니다.
+     */
+    Optional<User> findByEmail(String email);
+
+    /**
+     * 관리 상태 엔티티를 고쳐 반영합니다. JPQL 벌크 UPDATE와 달리 2차 캐시의 User 리전 전체가 아니라 해당 항목만 갱신됩니다.
+     */
+    void updatePassword(Long id, String password);
+
+    /**
+     * 소셜 로그인 프로필(닉네임·제공자)을 관리 상태 엔티티로 반영합니다. 2차 캐시는 해당 항목만 갱신됩니다.
+     */
+    void updateSocialProfile(Long id, String nickname, String provider);
+}
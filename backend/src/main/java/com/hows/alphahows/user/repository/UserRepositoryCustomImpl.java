@@ -0,0 +1,50 @@
+package com.hows.alphahows.user.repository;
+
+import com.hows.alphahows.common.PrimaryReads;
+import com.hows.alphahows.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public UserRepositoryCustomImpl(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 로그인·가입 직후 조회라 복제 지연이 보이면 안 되므로 primary에서 읽음 (2차 캐시 적중 시에는 DB 조회 없음)
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return PrimaryReads.call(() -> readOnlyTransaction.execute(status -> entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email)));
+    }
+
+    @Override
+    @Transactional
+    public void updatePassword(Long id, String password) {
+        User user = entityManager.find(User.class, id);
+        if (user != null) {
+            user.changePassword(password);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void updateSocialProfile(Long id, String nickname, String provider) {
+        User user = entityManager.find(User.class, id);
+        if (user != null) {
+            user.applySocialProfile(nickname, provider);
+        }
+    }
+}
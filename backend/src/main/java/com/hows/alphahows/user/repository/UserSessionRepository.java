@@ -0,0 +1,32 @@
+package com.hows.alphahows.user.repository;
+
+import com.hows.alphahows.user.entity.UserSession;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface UserSessionRepository extends JpaRepository<UserSession, Long> {
+
+    @Query("select s from UserSession s join fetch s.user where s.refreshToken = :refreshToken")
+    Optional<UserSession> findWithUserByRefreshToken(@Param("refreshToken") String refreshToken);
+
+    @Modifying
+    @Query("delete from UserSession s where s.refreshToken = :refreshToken")
+    int deleteByRefreshToken(@Param("refreshToken") String refreshToken);
+
+    // expires_at 인덱스 범위 스캔으로 삭제 대상 id만 제한된 개수만큼 조회
+    @Query("select s.id from UserSession s where s.expiresAt < :now order by s.expiresAt asc")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("delete from UserSession s where s.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,110 @@
+package com.hows.alphahows.user.service;
+
+import com.hows.alphahows.user.repository.UserSessionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 UserSession을 작은 배치로 나눠 삭제합니다.
+ * 배치마다 별도 트랜잭션으로 커밋하고 배치 사이에 쉬어서 긴 락이나 복제 지연을 만들지 않습니다.
+ */
+@Slf4j
+@Component
+public class ExpiredSessionPurgeJob {
+
+    private final UserSessionRepository userSessionRepository;
+    private final int batchSize;
+    private final Duration pause;
+    private final int maxBatchesPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong lastRunDeleted = new AtomicLong();
+    private final Counter deletedCounter;
+    private final Counter batchCounter;
+    private final Timer runTimer;
+
+    public ExpiredSessionPurgeJob(
+            UserSessionRepository userSessionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${auth.session-purge.batch-size:500}") int batchSize,
+            @Value("${auth.session-purge.pause:200ms}") Duration pause,
+            @Value("${auth.session-purge.max-batches-per-run:2000}") int maxBatchesPerRun
+    ) {
+        this.userSessionRepository = userSessionRepository;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.deletedCounter = Counter.builder("auth.session.purge.deleted")
+                .description("Expired user sessions deleted by the purge job")
+                .register(meterRegistry);
+        this.batchCounter = Counter.builder("auth.session.purge.batches")
+                .description("Delete batches executed by the purge job")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("auth.session.purge.run")
+                .description("Duration of a purge job run")
+                .register(meterRegistry);
+        meterRegistry.gauge("auth.session.purge.last.deleted", lastRunDeleted);
+        meterRegistry.gauge("auth.session.purge.running", running, flag -> flag.get() ? 1 : 0);
+    }
+
+    @Scheduled(cron = "${auth.session-purge.cron:0 15 4 * * *}")
+    public void purge() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long deleted = runTimer.record(this::purgeExpired);
+            lastRunDeleted.set(deleted);
+            if (deleted > 0) {
+                log.info("Purged {} expired user sessions", deleted);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    long purgeExpired() {
+        // 실행 도중 새로 만료되는 행까지 쫓아가지 않도록 기준 시각을 고정
+        LocalDateTime cutoff = LocalDateTime.now();
+        long total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> ids = userSessionRepository.findExpiredIds(cutoff, Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            int deleted = userSessionRepository.deleteByIdIn(ids);
+            total += deleted;
+            deletedCounter.increment(deleted);
+            batchCounter.increment();
+
+            if (ids.size() < batchSize || !sleepBetweenBatches()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private boolean sleepBetweenBatches() {
+        if (pause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+-- 기준 스키마: ddl-auto=update 시절(b5cae09) Hibernate가 만들던 스키마 그대로
+-- 기존 운영 DB는 baseline-on-migrate로 이 버전을 건너뛰므로, 이후 변경은 반드시 V2 이후 마이그레이션에 추가합니다.
+
+create table chat_message_sources (
+    rank_no integer not null,
+    chat_message_source_id bigint not null auto_increment,
+    chunk_id bigint not null,
+    message_id bigint not null,
+    primary key (chat_message_source_id)
+) engine=InnoDB;
+
+create table chat_messages (
+    created_at datetime(6),
+    message_id bigint not null auto_increment,
+    session_id bigint not null,
+    updated_at datetime(6),
+    content MEDIUMTEXT not null,
+    role enum ('ASSISTANT','USER') not null,
+    primary key (message_id)
+) engine=InnoDB;
+
+create table chat_sessions (
+    created_at datetime(6),
+    session_id bigint not null auto_increment,
+    updated_at datetime(6),
+    user_id bigint,
+    visitor_key varchar(36),
+    primary key (session_id)
+) engine=InnoDB;
+
+create table comments (
+    author_user_id bigint not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    post_id bigint not null,
+    updated_at datetime(6),
+    content TEXT not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table document_chunks (
+    chunk_index integer not null,
+    chunk_id bigint not null auto_increment,
+    created_at datetime(6),
+    document_id bigint not null,
+    updated_at datetime(6),
+    vector_ref varchar(255),
+    content_text MEDIUMTEXT not null,
+    primary key (chunk_id)
+) engine=InnoDB;
+
+create table documents (
+    version integer not null,
+    created_at datetime(6),
+    document_id bigint not null auto_increment,
+    owner_user_id bigint not null,
+    updated_at datetime(6),
+    source_uri varchar(512),
+    title varchar(255) not null,
+    type enum ('BLOG','PROJECT','RESUME') not null,
+    primary key (document_id)
+) engine=InnoDB;
+
+create table offer_messages (
+    created_at datetime(6),
+    offer_id bigint not null,
+    offer_message_id bigint not null auto_increment,
+    sender_user_id bigint,
+    updated_at datetime(6),
+    content TEXT not null,
+    sender_type enum ('ADMIN','RECRUITER','SYSTEM','VISITOR') not null,
+    primary key (offer_message_id)
+) engine=InnoDB;
+
+create table offers (
+    admin_read bit not null,
+    currency varchar(3),
+    recruiter_read bit not null,
+    salary_max decimal(15,2),
+    salary_min decimal(15,2),
+    created_at datetime(6),
+    offer_id bigint not null auto_increment,
+    recruiter_user_id bigint not null,
+    updated_at datetime(6),
+    contact_phone varchar(50),
+    company_name varchar(255) not null,
+    contact_email varchar(255),
+    message TEXT,
+    position_title varchar(255) not null,
+    employment_type enum ('CONTRACT','FULL_TIME','INTERN','PART_TIME') not null,
+    salary_unit enum ('MONTH','YEAR'),
+    status enum ('CLOSED','INTERVIEW','QNA','REVIEWED','SUBMITTED') not null,
+    work_type enum ('HYBRID','ONSITE','REMOTE') not null,
+    primary key (offer_id)
+) engine=InnoDB;
+
+create table page_views (
+    view_date date not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    view_id bigint not null auto_increment,
+    ip_hash varchar(64),
+    user_agent_hash varchar(64),
+    session_key varchar(128) not null,
+    referrer varchar(512),
+    path varchar(255) not null,
+    primary key (view_id)
+) engine=InnoDB;
+
+create table post_tags (
+    post_id bigint not null,
+    tag_id bigint not null,
+    primary key (post_id, tag_id)
+) engine=InnoDB;
+
+create table posts (
+    author_user_id bigint not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    title varchar(255) not null,
+    content MEDIUMTEXT not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table profile (
+    created_at datetime(6),
+    updated_at datetime(6),
+    user_id bigint not null,
+    display_name varchar(100) not null,
+    bio TEXT,
+    contact_masked varchar(255),
+    headline varchar(255),
+    primary key (user_id)
+) engine=InnoDB;
+
+create table tags (
+    tag_id bigint not null auto_increment,
+    name varchar(50) not null,
+    primary key (tag_id)
+) engine=InnoDB;
+
+create table user_sessions (
+    created_at datetime(6),
+    expires_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    user_id bigint,
+    refresh_token varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    email varchar(255) not null,
+    nickname varchar(255) not null,
+    password varchar(255),
+    provider varchar(255) not null,
+    role varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table chat_message_sources
+   add constraint uk_chat_message_chunk unique (message_id, chunk_id);
+
+alter table document_chunks
+   add constraint uk_document_chunks_doc_idx unique (document_id, chunk_index);
+
+alter table tags
+   add constraint UKt48xdq560gs3gap9g7jg36kgc unique (name);
+
+alter table users
+   add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table chat_message_sources
+   add constraint FKrjpms3r77pl70el466mvpviy1
+   foreign key (chunk_id)
+   references document_chunks (chunk_id);
+
+alter table chat_message_sources
+   add constraint FK79vc7tesg31crkxcvihtsoitf
+   foreign key (message_id)
+   references chat_messages (message_id);
+
+alter table chat_messages
+   add constraint FK3cpkdtwdxndrjhrx3gt9q5ux9
+   foreign key (session_id)
+   references chat_sessions (session_id);
+
+alter table chat_sessions
+   add constraint FK82ky97glaomlmhjqae1d0esmy
+   foreign key (user_id)
+   references users (id);
+
+alter table comments
+   add constraint FK1hjg8obsbnyiieijy039qv7mi
+   foreign key (author_user_id)
+   references users (id);
+
+alter table comments
+   add constraint FKh4c7lvsc298whoyd4w9ta25cr
+   foreign key (post_id)
+   references posts (id);
+
+alter table document_chunks
+   add constraint FKks8knsiau23lcmv9mydqjmj84
+   foreign key (document_id)
+   references documents (document_id);
+
+alter table documents
+   add constraint FKju6i1p5bhkk4flt4qdvqvkjrm
+   foreign key (owner_user_id)
+   references users (id);
+
+alter table offer_messages
+   add constraint FKnx1u4aecd8grm0ad0ywg0ml4d
+   foreign key (offer_id)
+   references offers (offer_id);
+
+alter table offer_messages
+   add constraint FKag8tvkgnnod525sol4rmp798b
+   foreign key (sender_user_id)
+   references users (id);
+
+alter table offers
+   add constraint FKr5925y3vq692ivc3mu4k1dxwf
+   foreign key (recruiter_user_id)
+   references users (id);
+
+alter table post_tags
+   add constraint FKkifam22p4s1nm3bkmp1igcn5w
+   foreign key (post_id)
+   references posts (id);
+
+alter table post_tags
+   add constraint FKm6cfovkyqvu5rlm6ahdx3eavj
+   foreign key (tag_id)
+   references tags (tag_id);
+
+alter table posts
+   add constraint FK446gjq0cnhqile4mytd0fo2km
+   foreign key (author_user_id)
+   references users (id);
+
+alter table profile
+   add constraint FKs14jvsf9tqrcnly0afsv0ngwv
+   foreign key (user_id)
+   references users (id);
+
+alter table user_sessions
+   add constraint FK8klxsgb8dcjjklmqebqp1twd5
+   foreign key (user_id)
+   references users (id);
@@ -0,0 +1,50 @@
+-- 기준 스키마(V1) 이후 추가된 컬럼/테이블/인덱스. 기존 운영 DB도 V1을 건너뛴 뒤 여기서부터 적용됩니다.
+
+-- 게시글 댓글 수, 태그 게시글 수 비정규화 카운터 (기존 행은 현재 값으로 채움)
+alter table posts add column comment_count bigint not null default 0;
+update posts p set comment_count = (select count(*) from comments c where c.post_id = p.id);
+
+alter table tags add column post_count bigint not null default 0;
+update tags t set post_count = (select count(*) from post_tags pt where pt.tag_id = t.tag_id);
+
+-- 대량 INSERT 엔티티(page_views, chat_messages, document_chunks)의 pooled id 할당 테이블
+-- 기존 auto_increment 컬럼은 그대로 두고 id를 명시해 INSERT, 시작 값은 IdAllocatorAligner가 max(id) 위로 맞춤
+create table id_allocators (
+    next_val bigint,
+    sequence_name varchar(255) not null,
+    primary key (sequence_name)
+) engine=InnoDB;
+
+-- CommentRepository.findPageWithAuthor ((post_id, id) keyset)
+create index idx_comments_post_id on comments (post_id, id);
+
+-- PostRepository.findFeedByTag (태그별 피드)
+create index idx_post_tags_tag_post on post_tags (tag_id, post_id);
+
+-- TagRepository: 인기 태그 (post_count 순)
+create index idx_tags_post_count on tags (post_count);
+
+-- UserSessionRepository: refresh token 조회, 만료 세션 정리
+alter table user_sessions add constraint uk_user_sessions_refresh_token unique (refresh_token);
+create index idx_user_sessions_expires_at on user_sessions (expires_at);
+
+-- 조회 빈도가 높은 경로의 복합 인덱스
+-- document_chunks(document_id)는 uk_document_chunks_doc_idx (document_id, chunk_index)의 선두 컬럼으로 이미 커버됨
+
+-- OfferRepository: findByRecruiterIdOrderByIdDesc, findByIdAndRecruiterId
+create index idx_offers_recruiter_id on offers (recruiter_user_id, offer_id);
+
+-- OfferRepository: countByRecruiterIdAndRecruiterReadFalse, findByRecruiterIdAndRecruiterReadFalseOrderByIdDesc
+create index idx_offers_recruiter_read on offers (recruiter_user_id, recruiter_read);
+
+-- OfferRepository: countByAdminReadFalse
+create index idx_offers_admin_read on offers (admin_read);
+
+-- UserRepository: findByRole (관리자 알림 대상 조회)
+create index idx_users_role on users (role);
+
+-- 채팅 세션별 메시지 시간순 조회
+create index idx_chat_messages_session_id on chat_messages (session_id, message_id);
+
+-- 일자·경로별 조회수 집계
+create index idx_page_views_date_path on page_views (view_date, path);
@@ -0,0 +1,18 @@
+-- 제안별 메시지 스레드: OfferMessageRepository.findPageWithSender ((offer_id, offer_message_id) keyset)
+create index idx_offer_messages_offer_id on offer_messages (offer_id, offer_message_id);
+
+-- 스레드별 읽지 않은 메시지 수와 쪽별 마지막 읽은 메시지 id
+-- 메시지 작성 시 받는 쪽 +1, 읽음 처리 시 (마지막 읽은 id, 확인한 id] 구간의 메시지 수만큼 -1 (조회 때 count 하지 않음)
+alter table offers add column admin_unread_messages int not null default 0;
+alter table offers add column recruiter_unread_messages int not null default 0;
+alter table offers add column admin_last_read_message_id bigint not null default 0;
+alter table offers add column recruiter_last_read_message_id bigint not null default 0;
+
+-- 받는 사람별 읽지 않은 메시지 합계 (배지 폴링은 이 행 하나만 읽음)
+-- ADMIN은 관리자 전원이 공유하는 행 하나(recipient_id = 0), RECRUITER는 리크루터마다 한 행(recipient_id = users.id)
+create table offer_message_unread_totals (
+    recipient_type enum ('ADMIN','RECRUITER') not null,
+    recipient_id bigint not null,
+    unread_messages bigint not null default 0,
+    primary key (recipient_type, recipient_id)
+) engine=InnoDB;
@@ -0,0 +1,32 @@
+-- 제안 이벤트 로그 (append-only): 이력, 증분 동기화, 알림/분석의 기준 데이터
+-- event_id는 INSERT 순서대로 증가해야 증분 동기화 커서(after)가 유효하므로 pooled 할당 대신 auto_increment 사용
+-- created_at은 DB 시계(INSERT 시점)로 기록하며, 피드는 이를 기준으로 안전 지연(워터마크)만큼 늦게 내보냄 (OfferEventService)
+create table offer_events (
+    event_id bigint not null auto_increment,
+    offer_id bigint not null,
+    recruiter_user_id bigint not null,
+    actor_user_id bigint,
+    event_type enum ('BACKFILLED','CONFIRMED','CREATED','READ_BY_ADMIN','STATUS_CHANGED') not null,
+    from_status enum ('CLOSED','INTERVIEW','QNA','REVIEWED','SUBMITTED'),
+    to_status enum ('CLOSED','INTERVIEW','QNA','REVIEWED','SUBMITTED'),
+    created_at datetime(6) not null,
+    primary key (event_id)
+) engine=InnoDB;
+
+-- OfferEventRepository.findHistory (제안별 이력)
+create index idx_offer_events_offer_id on offer_events (offer_id, event_id);
+
+-- OfferEventRepository.findRecruiterFeed* (리크루터 활동 피드/증분 동기화)
+create index idx_offer_events_recruiter on offer_events (recruiter_user_id, event_id);
+
+alter table offer_events
+   add constraint fk_offer_events_offer
+   foreign key (offer_id)
+   references offers (offer_id);
+
+-- 기존 제안은 실제 이력이 남아 있지 않으므로 생성/상태 변경을 지어내지 않고,
+-- 마이그레이션 시점의 상태를 BACKFILLED 이벤트 한 건으로 기록 (행위자 없음, 이력은 이 이벤트부터 시작)
+insert into offer_events (offer_id, recruiter_user_id, actor_user_id, event_type, from_status, to_status, created_at)
+select offer_id, recruiter_user_id, null, 'BACKFILLED', null, status, current_timestamp(6)
+from offers
+order by offer_id;
@@ -0,0 +1,85 @@
+package com.hows.alphahows.community.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hows.alphahows.community.dto.PostDetailResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * 적재 중에 evict가 들어와도 옛 값이 캐시에 남지 않는지 확인합니다.
+ */
+class PostDetailCacheTests {
+
+    private final PostDetailCache cache = new PostDetailCache(
+            new SimpleMeterRegistry(), new NoOpTransactionManager(), 1_000_000, Duration.ofMinutes(10));
+
+    @Test
+    void evictDuringInFlightLoadDropsTheLoadedValue() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        CompletableFuture<PostDetailResponse> staleLoad = CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+            loading.countDown();
+            await(releaseLoad);
+            return detail(id, "stale");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 변경 커밋 후의 evict: 진행 중인 적재가 끝날 때까지 기다린 뒤 그 결과를 지움
+        CompletableFuture<Void> evict = CompletableFuture.runAsync(() -> cache.evict(1L));
+        Thread.sleep(200);
+        assertThat(evict.isDone()).isFalse();
+
+        releaseLoad.countDown();
+        assertThat(staleLoad.get(5, TimeUnit.SECONDS).title()).isEqualTo("stale");
+        evict.get(5, TimeUnit.SECONDS);
+
+        assertThat(cache.get(1L, id -> detail(id, "fresh")).title()).isEqualTo("fresh");
+    }
+
+    @Test
+    void hitDoesNotCallLoaderAgain() {
+        cache.get(2L, id -> detail(id, "first"));
+
+        assertThat(cache.get(2L, id -> detail(id, "second")).title()).isEqualTo("first");
+    }
+
+    private static PostDetailResponse detail(Long postId, String title) {
+        return new PostDetailResponse(postId, 1L, "author", title, "content", 0, List.of(), List.of(), null, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
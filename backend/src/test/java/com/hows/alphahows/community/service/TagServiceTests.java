@@ -0,0 +1,105 @@
+package com.hows.alphahows.community.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hows.alphahows.community.entity.Post;
+import com.hows.alphahows.community.repository.PostRepository;
+import com.hows.alphahows.community.repository.PostTagRepository;
+import com.hows.alphahows.community.repository.TagRepository;
+import com.hows.alphahows.user.entity.User;
+import com.hows.alphahows.user.repository.UserRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 태그 카운터가 이 호출이 실제로 넣거나 지운 post_tags 행만큼만 움직이는지 확인합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:tag_service;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+class TagServiceTests {
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PostTagRepository postTagRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long postId;
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(User.builder()
+                .email("author-" + System.nanoTime() + "@example.com")
+                .nickname("author")
+                .provider("LOCAL")
+                .role("USER")
+                .build());
+        postId = postRepository.save(Post.builder()
+                .author(author)
+                .title("title")
+                .content("content")
+                .build()).getId();
+        prefix = "t" + System.nanoTime() + "-";
+    }
+
+    @Test
+    void replaceTagsCountsOnlyChangedTags() {
+        tagService.replaceTags(postId, List.of(prefix + "a", prefix + "b"));
+        tagService.replaceTags(postId, List.of(prefix + "b", prefix + "c"));
+        tagService.replaceTags(postId, List.of(prefix + "b", prefix + "c"));
+
+        assertThat(postCount(prefix + "a")).isZero();
+        assertThat(postCount(prefix + "b")).isEqualTo(1);
+        assertThat(postCount(prefix + "c")).isEqualTo(1);
+    }
+
+    @Test
+    void writesReportOnlyTheRowsTheyChanged() {
+        tagRepository.insertIgnoreNames(List.of(prefix + "a", prefix + "b", prefix + "c"));
+        Long a = tagId(prefix + "a");
+        Long b = tagId(prefix + "b");
+        Long c = tagId(prefix + "c");
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // 다른 트랜잭션이 먼저 a를 넣은 상태: 이 호출의 결과에는 b만 남아 카운터를 중복으로 올리지 않음
+        transaction.executeWithoutResult(status -> postTagRepository.insertIgnore(postId, List.of(a)));
+        List<Long> inserted = transaction.execute(status -> postTagRepository.insertIgnore(postId, List.of(a, b)));
+        assertThat(inserted).containsExactly(b);
+
+        List<Long> deleted = transaction.execute(status -> postTagRepository.deleteTags(postId, List.of(a, c)));
+        assertThat(deleted).containsExactly(a);
+        List<Long> deletedAgain = transaction.execute(status -> postTagRepository.deleteTags(postId, List.of(a)));
+        assertThat(deletedAgain).isEmpty();
+    }
+
+    private Long tagId(String name) {
+        return jdbcTemplate.queryForObject("select tag_id from tags where name = ?", Long.class, name);
+    }
+
+    private long postCount(String name) {
+        return jdbcTemplate.queryForObject("select post_count from tags where name = ?", Long.class, name);
+    }
+}
@@ -0,0 +1,78 @@
+package com.hows.alphahows.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Flyway 마이그레이션을 H2(MySQL 모드)에서 검증합니다.
+ * 빈 DB 전체 적용, ddl-auto=update 시절 DB의 V1 기준선 이후 업그레이드, 적용 결과에 대한 Hibernate 스키마 검증을 확인합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flyway_validate;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class FlywayMigrationTests {
+
+    // 컨텍스트 기동 자체가 빈 DB에 대한 Flyway migrate + ddl-auto=validate + SchemaIndexVerifier 통과를 의미
+    @Test
+    void migratesEmptyDatabaseAndPassesHibernateValidation() {
+        Flyway flyway = flyway("flyway_empty", false);
+
+        flyway.migrate();
+
+        flyway.validate();
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    void upgradesBaselineDatabaseAndBackfillsCountersAndOfferEvents() {
+        DriverManagerDataSource dataSource = dataSource("flyway_baseline");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql"))
+                .execute(dataSource);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("insert into users (id, email, nickname, provider, role) values (1, 'a@b.c', 'a', 'LOCAL', 'USER')");
+        jdbc.update("insert into posts (id, title, content, author_user_id) values (1, 't', 'c', 1)");
+        jdbc.update("insert into comments (id, content, post_id, author_user_id) values (1, 'x', 1, 1), (2, 'y', 1, 1)");
+        jdbc.update("insert into tags (tag_id, name) values (1, 'java')");
+        jdbc.update("insert into post_tags (post_id, tag_id) values (1, 1)");
+        jdbc.update("insert into offers (offer_id, recruiter_user_id, admin_read, recruiter_read, company_name,"
+                + " position_title, employment_type, work_type, status) values (1, 1, 0, 0, 'c', 'p', 'FULL_TIME', 'REMOTE', 'INTERVIEW')");
+
+        Flyway flyway = flyway("flyway_baseline", true);
+        flyway.migrate();
+
+        flyway.validate();
+        assertThat(flyway.info().applied()[0].getVersion()).isEqualTo(MigrationVersion.fromVersion("1"));
+        assertThat(jdbc.queryForObject("select comment_count from posts where id = 1", Long.class)).isEqualTo(2L);
+        assertThat(jdbc.queryForObject("select post_count from tags where tag_id = 1", Long.class)).isEqualTo(1L);
+        assertThat(jdbc.queryForObject("select count(*) from id_allocators", Long.class)).isZero();
+        assertThat(jdbc.queryForMap("select event_type, actor_user_id, to_status from offer_events where offer_id = 1"))
+                .containsEntry("event_type", "BACKFILLED")
+                .containsEntry("actor_user_id", null)
+                .containsEntry("to_status", "INTERVIEW");
+    }
+
+
+    private static Flyway flyway(String database, boolean baselineOnMigrate) {
+        return Flyway.configure()
+                .dataSource(dataSource(database))
+                .baselineOnMigrate(baselineOnMigrate)
+                .baselineVersion("1")
+                .load();
+    }
+
+    private static DriverManagerDataSource dataSource(String database) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+    }
+}
@@ -0,0 +1,148 @@
+package com.hows.alphahows.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hows.alphahows.common.PrimaryReads;
+import com.hows.alphahows.user.entity.User;
+import com.hows.alphahows.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * primary/replica 두 H2 DB로 읽기/쓰기 라우팅을 확인합니다. 어느 DB에서 실행됐는지는 DATABASE()로 구분합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "datasource.replica.url=jdbc:h2:mem:routing_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "datasource.replica.read-your-writes-window=5s"
+})
+class ReplicaRoutingTests {
+
+    private static final String PRIMARY = "ROUTING_PRIMARY";
+    private static final String REPLICA = "ROUTING_REPLICA";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertThat(currentDatabase(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void readWriteTransactionsUsePrimary() {
+        assertThat(currentDatabase(false)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void readsWithinReadYourWritesCookieUsePrimary() {
+        bindRequest(new Cookie(ReadYourWritesTracker.COOKIE_NAME, Long.toString(System.currentTimeMillis())));
+
+        assertThat(currentDatabase(true)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void readsWithExpiredReadYourWritesCookieUseReplica() {
+        bindRequest(new Cookie(ReadYourWritesTracker.COOKIE_NAME, Long.toString(System.currentTimeMillis() - 60_000)));
+
+        assertThat(currentDatabase(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void committedWriteSetsCookieAndRoutesLaterReadsInRequestToPrimary() {
+        MockHttpServletResponse response = bindRequest();
+        assertThat(currentDatabase(true)).isEqualTo(REPLICA);
+
+        transaction(false).executeWithoutResult(status -> jdbcTemplate.update("update users set nickname = nickname"));
+
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).startsWith(ReadYourWritesTracker.COOKIE_NAME + "=");
+        assertThat(currentDatabase(true)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void primaryReadsUsePrimaryAndFillSecondLevelCache() {
+        assertThat(PrimaryReads.call(() -> currentDatabase(true))).isEqualTo(PRIMARY);
+        assertThat(PrimaryReads.call(() -> cacheModeIn(transaction(true)))).isEqualTo(CacheMode.NORMAL);
+    }
+
+    @Test
+    void replicaReadsDoNotPutIntoSecondLevelCache() {
+        assertThat(cacheModeIn(transaction(true))).isEqualTo(CacheMode.GET);
+        assertThat(cacheModeIn(transaction(false))).isEqualTo(CacheMode.NORMAL);
+    }
+
+    @Test
+    void findByEmailReadsPrimary() {
+        // replica DB에는 스키마가 없으므로 2차 캐시를 비운 뒤 replica로 가면 조회 자체가 실패
+        userRepository.save(User.builder()
+                .email("routing@example.com")
+                .nickname("routing")
+                .provider("LOCAL")
+                .role("USER")
+                .build());
+        entityManagerFactory.getCache().evictAll();
+        // 테스트 스레드의 mock 요청에 남은 read-your-writes 기록을 지워 저장 직후 읽기가 primary로 가지 않게 함
+        RequestContextHolder.resetRequestAttributes();
+
+        assertThat(userRepository.findByEmail("routing@example.com")).isPresent();
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        return transaction(readOnly).execute(status ->
+                jdbcTemplate.queryForObject("select database()", String.class).toUpperCase());
+    }
+
+    private CacheMode cacheModeIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> EntityManagerFactoryUtils
+                .getTransactionalEntityManager(entityManagerFactory)
+                .unwrap(Session.class)
+                .getCacheMode());
+    }
+
+    private TransactionTemplate transaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    private MockHttpServletResponse bindRequest(Cookie... cookies) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (cookies.length > 0) {
+            request.setCookies(cookies);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+}
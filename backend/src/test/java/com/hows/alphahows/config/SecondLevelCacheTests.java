@@ -0,0 +1,96 @@
+package com.hows.alphahows.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hows.alphahows.community.entity.Tag;
+import com.hows.alphahows.community.repository.TagRepository;
+import com.hows.alphahows.user.entity.User;
+import com.hows.alphahows.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 쓰기 경로가 2차 캐시 리전을 통째로 비우지 않는지 확인합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:second_level_cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+class SecondLevelCacheTests {
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void tagPostCountUpdateKeepsTagRegionWarm() {
+        tagRepository.insertIgnoreNames(List.of("cache-a", "cache-b"));
+        List<Tag> tags = tagRepository.findByNameIn(List.of("cache-a", "cache-b"));
+        Long first = tags.get(0).getId();
+        Long second = tags.get(1).getId();
+        assertThat(isCached(Tag.class, first)).isTrue();
+
+        transaction.executeWithoutResult(status -> tagRepository.adjustPostCount(List.of(first), 1));
+
+        assertThat(isCached(Tag.class, first)).isTrue();
+        assertThat(isCached(Tag.class, second)).isTrue();
+        assertThat(tagRepository.findTopByPostCount(10))
+                .anySatisfy(tag -> {
+                    assertThat(tag.name()).isEqualTo("cache-a");
+                    assertThat(tag.postCount()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void userUpdatesRefreshOnlyTheirOwnEntry() {
+        User changed = userRepository.save(user("changed@cache.test"));
+        User other = userRepository.save(user("other@cache.test"));
+        entityManagerFactory.getCache().evictAll();
+        userRepository.findByEmail(changed.getEmail());
+        userRepository.findByEmail(other.getEmail());
+
+        userRepository.updatePassword(changed.getId(), "new-hash");
+        userRepository.updateSocialProfile(changed.getId(), "renamed", "KAKAO");
+
+        assertThat(isCached(User.class, other.getId())).isTrue();
+        User reloaded = userRepository.findByEmail(changed.getEmail()).orElseThrow();
+        assertThat(reloaded.getPassword()).isEqualTo("new-hash");
+        assertThat(reloaded.getNickname()).isEqualTo("renamed");
+        assertThat(reloaded.getProvider()).isEqualTo("KAKAO");
+    }
+
+    private boolean isCached(Class<?> entityType, Long id) {
+        return entityManagerFactory.getCache().contains(entityType, id);
+    }
+
+    private static User user(String email) {
+        return User.builder()
+                .email(email)
+                .nickname("nick")
+                .provider("LOCAL")
+                .role("USER")
+                .password("old-hash")
+                .build();
+    }
+}
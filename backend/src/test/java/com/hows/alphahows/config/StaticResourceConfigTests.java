@@ -0,0 +1,87 @@
+package com.hows.alphahows.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * SPA 정적 리소스의 압축본 선택, /assets/** immutable 캐시, index.html ETag 재검증을 확인합니다.
+ * /assets/** 는 빌드마다 해시 파일명이 바뀌므로 테스트 리소스의 resource-test.js(.br/.gz)를 사용합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+class StaticResourceConfigTests {
+
+    private static final String ASSET = "/assets/resource-test.js";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void assetPrefersBrotliVariant() throws Exception {
+        mockMvc.perform(get(ASSET).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().bytes(bytesOf("static/assets/resource-test.js.br")));
+    }
+
+    @Test
+    void assetFallsBackToGzipVariant() throws Exception {
+        mockMvc.perform(get(ASSET).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(content().bytes(bytesOf("static/assets/resource-test.js.gz")));
+    }
+
+    @Test
+    void assetWithoutAcceptEncodingIsServedPlain() throws Exception {
+        mockMvc.perform(get(ASSET))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().bytes(bytesOf("static/assets/resource-test.js")));
+    }
+
+    @Test
+    void assetIsCachedAsImmutable() throws Exception {
+        String cacheControl = mockMvc.perform(get(ASSET).header(HttpHeaders.ACCEPT_ENCODING, "br"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.CACHE_CONTROL);
+
+        assertThat(cacheControl).contains("max-age=31536000", "public", "immutable");
+    }
+
+    @Test
+    void indexHtmlRevalidatesWithEtag() throws Exception {
+        String etag = mockMvc.perform(get("/index.html"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).matches("\"[0-9a-f]{32}\"");
+
+        mockMvc.perform(get("/index.html").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/index.html").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    private static byte[] bytesOf(String path) throws IOException {
+        return new ClassPathResource(path).getContentAsByteArray();
+    }
+}
@@ -0,0 +1,171 @@
+package com.hows.alphahows.offer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hows.alphahows.auth.principal.AuthUser;
+import com.hows.alphahows.offer.dto.OfferEventPageResponse;
+import com.hows.alphahows.offer.dto.OfferEventResponse;
+import com.hows.alphahows.offer.entity.EmploymentType;
+import com.hows.alphahows.offer.entity.Offer;
+import com.hows.alphahows.offer.entity.OfferEventType;
+import com.hows.alphahows.offer.entity.OfferStatus;
+import com.hows.alphahows.offer.entity.WorkType;
+import com.hows.alphahows.offer.repository.OfferRepository;
+import com.hows.alphahows.user.entity.User;
+import com.hows.alphahows.user.repository.UserRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이벤트를 쓰는 트랜잭션끼리 서로 기다리지 않고, 늦게 커밋된 작은 event_id도 피드 커서 뒤로 밀려나지 않는지 확인합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:offer_events;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "offer.events.feed-safety-lag=1s"
+})
+class OfferEventFeedTests {
+
+    private static final Authentication ADMIN = authenticated(AuthUser.of(0L, "admin@example.com", "ADMIN"));
+
+    @Autowired
+    private OfferEventRecorder offerEventRecorder;
+
+    @Autowired
+    private OfferEventService offerEventService;
+
+    @Autowired
+    private OfferRepository offerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void lateCommitIsNotSkippedByTheFeedCursor() throws Exception {
+        Long offerId = createOffer();
+        Long otherOfferId = createOffer();
+        Thread.sleep(1_100);
+        long cursor = offerEventService.getFeed(null, 200, ADMIN).cursor();
+        CountDownLatch firstRecorded = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        Future<Long> first = executor.submit(() -> transactionTemplate.execute(status -> {
+            long id = record(offerId);
+            firstRecorded.countDown();
+            await(releaseFirst);
+            return id;
+        }));
+        assertThat(firstRecorded.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 전역 잠금이 없으므로 두 번째 트랜잭션은 첫 번째를 기다리지 않고 더 큰 id로 먼저 커밋
+        long secondId = executor.submit(() -> transactionTemplate.execute(status -> record(otherOfferId)))
+                .get(5, TimeUnit.SECONDS);
+
+        // 커밋된 두 번째 이벤트도 워터마크 전이라 내보내지 않으므로 커서가 첫 번째 id를 넘지 않음
+        OfferEventPageResponse early = offerEventService.getFeed(cursor, 10, ADMIN);
+        assertThat(early.events()).isEmpty();
+        assertThat(early.cursor()).isEqualTo(cursor);
+
+        releaseFirst.countDown();
+        long firstId = first.get(10, TimeUnit.SECONDS);
+        assertThat(secondId).isGreaterThan(firstId);
+        Thread.sleep(1_100);
+
+        assertThat(offerEventService.getFeed(cursor, 10, ADMIN).events())
+                .extracting(OfferEventResponse::eventId)
+                .containsExactly(firstId, secondId);
+    }
+
+    @Test
+    void feedStopsAtFirstEventNewerThanWatermark() {
+        Long offerId = createOffer();
+        long cursor = maxEventId();
+        LocalDateTime old = LocalDateTime.now().minusHours(1);
+        long settled = insertEvent(offerId, old);
+        insertEvent(offerId, LocalDateTime.now().plusMinutes(1));
+        insertEvent(offerId, old);
+
+        OfferEventPageResponse page = offerEventService.getFeed(cursor, 10, ADMIN);
+
+        assertThat(page.events()).extracting(OfferEventResponse::eventId).containsExactly(settled);
+        assertThat(page.cursor()).isEqualTo(settled);
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    private long record(Long offerId) {
+        Offer offer = offerRepository.findById(offerId).orElseThrow();
+        return offerEventRecorder.record(offer, OfferEventType.STATUS_CHANGED, OfferStatus.SUBMITTED,
+                OfferStatus.REVIEWED, offer.getRecruiter().getId());
+    }
+
+    private long insertEvent(Long offerId, LocalDateTime createdAt) {
+        Long recruiterId = jdbcTemplate.queryForObject(
+                "select recruiter_user_id from offers where offer_id = ?", Long.class, offerId);
+        jdbcTemplate.update("insert into offer_events (offer_id, recruiter_user_id, event_type, created_at)"
+                + " values (?, ?, 'READ_BY_ADMIN', ?)", offerId, recruiterId, Timestamp.valueOf(createdAt));
+        return maxEventId();
+    }
+
+    private long maxEventId() {
+        return jdbcTemplate.queryForObject("select coalesce(max(event_id), 0) from offer_events", Long.class);
+    }
+
+    private Long createOffer() {
+        return transactionTemplate.execute(status -> {
+            User recruiter = userRepository.save(User.builder()
+                    .email("recruiter-" + System.nanoTime() + "@example.com")
+                    .nickname("recruiter")
+                    .provider("LOCAL")
+                    .role("USER")
+                    .build());
+            return offerRepository.save(Offer.builder()
+                    .recruiter(recruiter)
+                    .companyName("company")
+                    .positionTitle("backend")
+                    .employmentType(EmploymentType.FULL_TIME)
+                    .workType(WorkType.REMOTE)
+                    .status(OfferStatus.SUBMITTED)
+                    .build()).getId();
+        });
+    }
+
+    private static Authentication authenticated(AuthUser user) {
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.hows.alphahows.offer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hows.alphahows.auth.principal.AuthUser;
+import com.hows.alphahows.offer.dto.OfferListItem;
+import com.hows.alphahows.offer.dto.OfferListView;
+import com.hows.alphahows.offer.dto.OfferSummaryResponse;
+import com.hows.alphahows.offer.entity.EmploymentType;
+import com.hows.alphahows.offer.entity.Offer;
+import com.hows.alphahows.offer.entity.OfferStatus;
+import com.hows.alphahows.offer.entity.WorkType;
+import com.hows.alphahows.offer.repository.OfferRepository;
+import com.hows.alphahows.user.entity.User;
+import com.hows.alphahows.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 목록의 status/read/keyword 조건이 쿼리에서 요청자 기준으로 적용되는지 확인합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:offer_list;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+class OfferListFilterTests {
+
+    @Autowired
+    private OfferService offerService;
+
+    @Autowired
+    private OfferRepository offerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Authentication admin;
+    private Authentication recruiter;
+    private User recruiterUser;
+    private String company;
+
+    @BeforeEach
+    void setUp() {
+        User adminUser = userRepository.save(user("admin", "ADMIN"));
+        recruiterUser = userRepository.save(user("recruiter", "USER"));
+        admin = authenticated(adminUser);
+        recruiter = authenticated(recruiterUser);
+        company = "company-" + System.nanoTime();
+    }
+
+    @Test
+    void readFilterUsesTheRequestersFlag() {
+        Long readByRecruiterOnly = saveOffer(OfferStatus.SUBMITTED, false, true, "first");
+        Long readByAdminOnly = saveOffer(OfferStatus.SUBMITTED, true, false, "second");
+
+        assertThat(list(recruiter, null, true, company)).containsExactly(readByRecruiterOnly);
+        assertThat(list(recruiter, null, false, company)).containsExactly(readByAdminOnly);
+        assertThat(list(admin, null, true, company)).containsExactly(readByAdminOnly);
+        assertThat(list(admin, null, false, company)).containsExactly(readByRecruiterOnly);
+    }
+
+    @Test
+    void statusAndKeywordAreAppliedInTheQuery() {
+        Long submitted = saveOffer(OfferStatus.SUBMITTED, false, true, "Backend 100%");
+        Long reviewed = saveOffer(OfferStatus.REVIEWED, false, true, "Backend");
+
+        assertThat(list(admin, OfferStatus.REVIEWED, null, company)).containsExactly(reviewed);
+        assertThat(list(admin, null, null, company.toUpperCase())).containsExactly(reviewed, submitted);
+        // LIKE 와일드카드는 글자 그대로 검색
+        assertThat(list(recruiter, null, null, "backend 100%")).containsExactly(submitted);
+        // 모집자 이메일 검색은 관리자 목록에서만
+        assertThat(list(admin, null, null, recruiterUser.getEmail())).containsExactly(reviewed, submitted);
+        assertThat(list(recruiter, null, null, recruiterUser.getEmail())).isEmpty();
+    }
+
+    private List<Long> list(Authentication requester, OfferStatus status, Boolean read, String keyword) {
+        List<Long> ids = new ArrayList<>();
+        offerService.streamOffers(requester, status, read, keyword, OfferListView.SUMMARY,
+                (OfferListItem item) -> ids.add(((OfferSummaryResponse) item).offerId()));
+        return ids;
+    }
+
+    private Long saveOffer(OfferStatus status, boolean adminRead, boolean recruiterRead, String positionTitle) {
+        return offerRepository.save(Offer.builder()
+                .recruiter(recruiterUser)
+                .companyName(company)
+                .positionTitle(positionTitle)
+                .employmentType(EmploymentType.FULL_TIME)
+                .workType(WorkType.REMOTE)
+                .status(status)
+                .adminRead(adminRead)
+                .recruiterRead(recruiterRead)
+                .build()).getId();
+    }
+
+    private static User user(String prefix, String role) {
+        return User.builder()
+                .email(prefix + "-" + System.nanoTime() + "@example.com")
+                .nickname(prefix)
+                .provider("LOCAL")
+                .role(role)
+                .build();
+    }
+
+    private static Authentication authenticated(User user) {
+        AuthUser authUser = AuthUser.of(user.getId(), user.getEmail(), user.getRole());
+        return new UsernamePasswordAuthenticationToken(authUser, null, authUser.getAuthorities());
+    }
+}
@@ -0,0 +1,114 @@
+package com.hows.alphahows.offer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hows.alphahows.auth.principal.AuthUser;
+import com.hows.alphahows.offer.dto.OfferMessageCreateRequest;
+import com.hows.alphahows.offer.entity.EmploymentType;
+import com.hows.alphahows.offer.entity.Offer;
+import com.hows.alphahows.offer.entity.OfferStatus;
+import com.hows.alphahows.offer.entity.WorkType;
+import com.hows.alphahows.offer.repository.OfferRepository;
+import com.hows.alphahows.user.entity.User;
+import com.hows.alphahows.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 읽지 않은 메시지 수가 제안별 카운터와 받는 사람별 합계로 함께 유지되고, 확인 이후 도착한 메시지는 읽음 처리에서 빠지는지 확인합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:offer_messages;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+class OfferMessageServiceTests {
+
+    @Autowired
+    private OfferMessageService offerMessageService;
+
+    @Autowired
+    private OfferRepository offerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Authentication admin;
+    private Authentication recruiter;
+    private Long recruiterId;
+
+    @BeforeEach
+    void setUp() {
+        User adminUser = userRepository.save(user("admin", "ADMIN"));
+        User recruiterUser = userRepository.save(user("recruiter", "USER"));
+        admin = authenticated(adminUser);
+        recruiter = authenticated(recruiterUser);
+        recruiterId = recruiterUser.getId();
+    }
+
+    @Test
+    void totalsFollowMessagesAcrossOffers() {
+        long adminBefore = offerMessageService.getUnreadCount(admin).count();
+        Long first = createOffer();
+        Long second = createOffer();
+
+        send(first, recruiter);
+        send(first, recruiter);
+        send(second, recruiter);
+        send(second, admin);
+
+        assertThat(offerMessageService.getUnreadCount(admin).count()).isEqualTo(adminBefore + 3);
+        assertThat(offerMessageService.getUnreadCount(recruiter).count()).isEqualTo(1);
+
+        assertThat(offerMessageService.markMessagesRead(first, null, admin).count()).isEqualTo(adminBefore + 1);
+        assertThat(offerMessageService.markMessagesRead(second, null, recruiter).count()).isZero();
+        // 다시 읽음 처리해도 구간에 새 메시지가 없으면 그대로
+        assertThat(offerMessageService.markMessagesRead(first, null, admin).count()).isEqualTo(adminBefore + 1);
+    }
+
+    @Test
+    void messageAfterTheSeenIdStaysUnread() {
+        long adminBefore = offerMessageService.getUnreadCount(admin).count();
+        Long offerId = createOffer();
+        long seen = send(offerId, recruiter);
+        send(offerId, recruiter);
+
+        assertThat(offerMessageService.markMessagesRead(offerId, seen, admin).count()).isEqualTo(adminBefore + 1);
+        assertThat(offerRepository.findAdminUnreadMessages(offerId)).isEqualTo(1);
+
+        assertThat(offerMessageService.markMessagesRead(offerId, null, admin).count()).isEqualTo(adminBefore);
+        assertThat(offerRepository.findAdminUnreadMessages(offerId)).isZero();
+    }
+
+    private long send(Long offerId, Authentication sender) {
+        return offerMessageService.createMessage(offerId, new OfferMessageCreateRequest("hello"), sender)
+                .offerMessageId();
+    }
+
+    private Long createOffer() {
+        return offerRepository.save(Offer.builder()
+                .recruiter(userRepository.getReferenceById(recruiterId))
+                .companyName("company")
+                .positionTitle("backend")
+                .employmentType(EmploymentType.FULL_TIME)
+                .workType(WorkType.REMOTE)
+                .status(OfferStatus.SUBMITTED)
+                .build()).getId();
+    }
+
+    private static User user(String prefix, String role) {
+        return User.builder()
+                .email(prefix + "-" + System.nanoTime() + "@example.com")
+                .nickname(prefix)
+                .provider("LOCAL")
+                .role(role)
+                .build();
+    }
+
+    private static Authentication authenticated(User user) {
+        AuthUser authUser = AuthUser.of(user.getId(), user.getEmail(), user.getRole());
+        return new UsernamePasswordAuthenticationToken(authUser, null, authUser.getAuthorities());
+    }
+}
@@ -0,0 +1,17 @@
+package com.hows.alphahows.support;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 테스트용 H2(MySQL 모드) 방언.
+ * H2 MySQL 모드는 TEXT/MEDIUMTEXT 컬럼을 VARCHAR로 보고하므로, 문자열 계열 타입끼리는 같은 타입으로 보고 스키마를 검증합니다.
+ */
+public class MySqlModeH2Dialect extends H2Dialect {
+
+    @Override
+    public boolean equivalentTypes(int typeCode1, int typeCode2) {
+        return super.equivalentTypes(typeCode1, typeCode2)
+                || (SqlTypes.isCharacterOrClobType(typeCode1) && SqlTypes.isCharacterOrClobType(typeCode2));
+    }
+}
@@ -0,0 +1,45 @@
+// vite build 결과물(backend 정적 리소스)에 .gz/.br 사전 압축본을 만든다.
+// 서버는 Accept-Encoding에 맞는 압축본이 있으면 그대로 내려보내므로 요청마다 압축하지 않는다.
+import { readdir, readFile, stat, writeFile } from 'node:fs/promises'
+import { join } from 'node:path'
+import { brotliCompressSync, constants, gzipSync } from 'node:zlib'
+
+const outDir = new URL('../../backend/src/main/resources/static/', import.meta.url)
+const compressible = /\.(js|mjs|css|html|svg|json|txt|map)$/
+const minSize = 1024
+
+async function* walk(dir) {
+  for (const entry of await readdir(dir, { withFileTypes: true })) {
+    const path = join(dir, entry.name)
+    if (entry.isDirectory()) {
+      yield* walk(path)
+    } else {
+      yield path
+    }
+  }
+}
+
+let written = 0
+for await (const file of walk(outDir.pathname)) {
+  if (!compressible.test(file) || (await stat(file)).size < minSize) {
+    continue
+  }
+  const source = await readFile(file)
+  const variants = {
+    '.gz': gzipSync(source, { level: 9 }),
+    '.br': brotliCompressSync(source, {
+      params: {
+        [constants.BROTLI_PARAM_QUALITY]: constants.BROTLI_MAX_QUALITY,
+        [constants.BROTLI_PARAM_SIZE_HINT]: source.length,
+      },
+    }),
+  }
+  for (const [suffix, compressed] of Object.entries(variants)) {
+    // 압축 이득이 없으면 원본만 둔다
+    if (compressed.length < source.length) {
+      await writeFile(file + suffix, compressed)
+      written++
+    }
+  }
+}
+console.log(`precompressed ${written} files in ${outDir.pathname}`)
@@ -134,7 +134,7 @@ const Main = () => {
     noticeTimerRef.current = window.setTimeout(() => setNoticeMessage(''), 2200);
   }, []);
 
-  const syncAdminReadTransitionNotice = useCallback((list: OfferItem[]) => {
+  const syncAdminReadTransitionNotice = useCallback((list: Pick<OfferItem, 'offerId' | 'adminRead'>[]) => {
     if (isAdmin) return;
 
     const prevMap = previousAdminReadByOfferRef.current;
@@ -200,14 +200,13 @@ const Main = () => {
 
     setIsOfferLoading(true);
     try {
-      const params = new URLSearchParams();
+      const params = new URLSearchParams({ view: 'FULL' });
       if (statusFilter !== 'ALL') params.set('status', statusFilter);
       if (readFilter === 'READ') params.set('read', 'true');
       if (readFilter === 'UNREAD') params.set('read', 'false');
       if (keywordFilter.trim()) params.set('keyword', keywordFilter.trim());
 
-      const query = params.toString();
-      const response = await fetch(`/api/offers${query ? `?${query}` : ''}`, {
+      const response = await fetch(`/api/offers?${params.toString()}`, {
         method: 'GET',
         credentials: 'same-origin',
       });
@@ -253,9 +252,10 @@ const Main = () => {
 
     const timerId = window.setInterval(async () => {
       try {
-        const response = await fetch('/api/offers', { method: 'GET', credentials: 'same-origin' });
+        // 폴링은 읽음 전환만 확인하므로 message/연락처를 뺀 요약 목록으로 충분
+        const response = await fetch('/api/offers?view=SUMMARY', { method: 'GET', credentials: 'same-origin' });
         if (!response.ok) return;
-        const data: OfferItem[] = await response.json();
+        const data: Pick<OfferItem, 'offerId' | 'adminRead'>[] = await response.json();
         syncAdminReadTransitionNotice(data);
         await fetchUnreadCount();
       } catch {
@@ -145,7 +145,7 @@ const OfferPage = ({ initialPanel }: OfferPageProps) => {
     if (!auth.authenticated) return;
     setIsOfferLoading(true);
     try {
-      const response = await fetch('/api/offers', { method: 'GET', credentials: 'same-origin' });
+      const response = await fetch('/api/offers?view=FULL', { method: 'GET', credentials: 'same-origin' });
       if (!response.ok) throw new Error('Offer load failed');
       const data: OfferItem[] = await response.json();
       setOffers(data);